@@ -0,0 +1,117 @@
+package org.example.chatbot.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 챗봇(POST /api/chat/intent)에 동시 채팅 부하를 주는 벤치마크입니다.
+ * 동시 사용자 수만큼 가상 스레드가 요청을 반복해서 보내고, 처리량, 지연 분포, 실패 수, 서버의 최대 스레드 수를 출력합니다.
+ * 질문마다 문구를 다르게 해 로컬 분류기와 intent 캐시를 거치지 않고 매번 GPT 분류 + fallback 답변(스텁 2회 호출)을 수행합니다.
+ *
+ * 플랫폼 스레드와 가상 스레드 비교 절차:
+ * 1. ./gradlew benchStub
+ * 2. 챗봇 실행 (두 모드에서 GPT 동시 호출 한도를 부하 수준에 맞춰 같게 설정)
+ *    공통 인자: --openai.api.url=http://localhost:18080/v1/chat/completions
+ *              --openai.resilience.max-concurrent=2000 --openai.client.max-connections=2000
+ *              --management.endpoints.web.exposure.include=metrics
+ *    플랫폼 스레드: 공통 인자만 사용 (Tomcat 기본 200 스레드)
+ *    가상 스레드: 공통 인자 + --spring.profiles.active=virtual
+ *    (가상 스레드 모드에서 JVM 옵션 -Djdk.tracePinnedThreads=full을 주면 캐리어 스레드 고정 시 스택이 출력됨)
+ * 3. ./gradlew bench -Pconcurrency=1000 -Prequests=5000
+ *
+ * 인자: target [concurrency] [requests]
+ */
+public final class ChatLoadBenchmark {
+
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    public static void main(String[] args) throws Exception {
+        String target = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        URI chatUri = URI.create(target + "/api/chat/intent");
+
+        long[] latenciesMs = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        System.out.printf("부하 시작: %s, 동시 사용자 %d명, 요청 %d건%n", chatUri, concurrency, requests);
+        long startedAt = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < concurrency; user++) {
+                String userId = "bench-" + user;
+                users.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        latenciesMs[index] = send(client, chatUri, userId, index, failures);
+                    }
+                });
+            }
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        Arrays.sort(latenciesMs);
+        System.out.printf("총 소요 %dms, 처리량 %.1f req/s, 실패 %d건%n",
+                elapsedMs, requests * 1000.0 / elapsedMs, failures.get());
+        System.out.printf("지연(ms) p50=%d p90=%d p99=%d max=%d%n",
+                percentile(latenciesMs, 0.50), percentile(latenciesMs, 0.90),
+                percentile(latenciesMs, 0.99), latenciesMs[requests - 1]);
+        System.out.printf("서버 최대 스레드 수(jvm.threads.peak): %s%n", serverMetric(client, target, "jvm.threads.peak"));
+    }
+
+    private static long send(HttpClient client, URI chatUri, String userId, int index, AtomicInteger failures) {
+        String body = "{\"userId\":\"" + userId + "\",\"message\":\"벤치마크 질문 " + index + ": 도서관 운영 시간 알려줘\"}";
+        HttpRequest request = HttpRequest.newBuilder(chatUri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) failures.incrementAndGet();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+        }
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // actuator metrics 엔드포인트가 노출되지 않았으면 안내 문구 반환
+    private static String serverMetric(HttpClient client, String target, String name) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/actuator/metrics/" + name))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = METRIC_VALUE.matcher(response.body());
+            if (response.statusCode() == 200 && matcher.find()) {
+                return String.valueOf((long) Double.parseDouble(matcher.group(1)));
+            }
+        } catch (Exception ignored) {
+            // 아래 안내 문구 반환
+        }
+        return "조회 불가 (management.endpoints.web.exposure.include=metrics 필요)";
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.chatbot.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 부하 비교용 OpenAI Chat Completions 호환 스텁 서버입니다. 모든 요청에 지연(기본 1~3초, 균등 분포)을 준 뒤 응답합니다.
+ * - response_format이 있는 요청(intent 분류): {"intent":"없음","keyword":"없음"} → 챗봇이 fallback 답변 생성까지 호출
+ * - stream=true 요청: 답변을 몇 개의 delta 이벤트로 나눠 SSE로 전송
+ * - 그 외: 고정 답변
+ * 요청 본문이 gzip(openai.client.gzip-request=true)이면 풀어서 확인합니다.
+ *
+ * 실행: ./gradlew benchStub -Pport=18080 (인자: port [minDelayMs] [maxDelayMs])
+ */
+public final class OpenAiStubServer {
+
+    private static final String INTENT_CONTENT = "{\\\"intent\\\":\\\"없음\\\",\\\"keyword\\\":\\\"없음\\\"}";
+    private static final String[] ANSWER_PARTS = {"스텁 서버의 ", "고정 답변", "입니다."};
+
+    private final long minDelayMs;
+    private final long maxDelayMs;
+
+    private OpenAiStubServer(long minDelayMs, long maxDelayMs) {
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        long minDelayMs = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        long maxDelayMs = args.length > 2 ? Long.parseLong(args[2]) : 3000;
+
+        OpenAiStubServer stub = new OpenAiStubServer(minDelayMs, maxDelayMs);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.createContext("/", stub::handle);
+        // 지연 동안 스레드가 잠들어 있으므로, 스텁 자체가 병목이 되지 않도록 요청마다 가상 스레드 사용
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        System.out.printf("OpenAI 스텁 서버 시작: http://localhost:%d/v1/chat/completions (지연 %d~%dms)%n",
+                port, minDelayMs, maxDelayMs);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String request = readBody(exchange);
+            sleep(ThreadLocalRandom.current().nextLong(minDelayMs, maxDelayMs + 1));
+
+            if (request.contains("\"stream\":true")) {
+                sendStream(exchange);
+            } else if (request.contains("\"response_format\"")) {
+                send(exchange, "application/json", completion(INTENT_CONTENT));
+            } else {
+                send(exchange, "application/json", completion(String.join("", ANSWER_PARTS)));
+            }
+        }
+    }
+
+    private void sendStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        for (String part : ANSWER_PARTS) {
+            String chunk = "{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + part + "\"}}]}";
+            out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private String completion(String escapedContent) {
+        return "{\"id\":\"stub\",\"object\":\"chat.completion\",\"model\":\"stub\","
+                + "\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"" + escapedContent + "\"},"
+                + "\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"prompt_tokens\":0,\"completion_tokens\":0,\"total_tokens\":0}}";
+    }
+
+    private String readBody(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            in = new GZIPInputStream(in);
+        }
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문자열(yyyy-MM-dd)로 저장하던 날짜 컬럼을 DATE로 바꾸고, 학사일정에 start_date/end_date를 추가해 채웁니다.
+ * 학사일정 기간은 내용(content)의 정규식 파싱이 필요해 SQL 대신 Java 마이그레이션으로 작성했습니다.
+ * 테이블은 크롤러가 만들기 때문에, 없는 테이블은 건너뜁니다.
+ * 적용된 마이그레이션의 결과가 바뀌지 않도록 기간 파싱은 이 버전 시점의 DateTimeExtractor 로직을 복사해 고정해 두었습니다.
+ * 이후 파싱 규칙이 바뀌면 AcademicSchedule(저장 시)과 AcademicScheduleDateBackfillScheduler(크롤러 행)가 반영합니다.
+ */
+public class V3__convert_date_columns extends BaseJavaMigration {
+
+    // DateTimeExtractor.extractScheduleDateRange (V3 시점) 복사본
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final Pattern RANGE_PATTERN =
+            Pattern.compile("(\\d{2}\\.\\d{2})\\s*\\([^)]+\\)\\s*~\\s*(\\d{2}[\\.\\-]\\d{2})");
+    private static final Pattern SINGLE_DAY_PATTERN = Pattern.compile("(\\d{2}\\.\\d{2})\\s*\\([^)]+\\)");
+
+    private record DateColumn(String table, String column, String index) {
+    }
+
+    private static final List<DateColumn> DATE_COLUMNS = List.of(
+            new DateColumn("student_meals", "meal_date", null),
+            new DateColumn("dorm_meals", "meal_date", null),
+            new DateColumn("faculty_meals", "meal_date", null),
+            new DateColumn("academic_notices", "notice_date", "idx_academic_notices_date"),
+            new DateColumn("hankyong_notices", "notice_date", "idx_hankyong_notices_date"),
+            new DateColumn("scholarship_notices", "notice_date", "idx_scholarship_notices_date")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        for (DateColumn dateColumn : DATE_COLUMNS) {
+            if (!tableExists(connection, dateColumn.table())) continue;
+            convertToDate(connection, dateColumn.table(), dateColumn.column());
+            if (dateColumn.index() != null && !indexExists(connection, dateColumn.table(), dateColumn.index())) {
+                execute(connection, "CREATE INDEX " + dateColumn.index()
+                        + " ON " + dateColumn.table() + " (" + dateColumn.column() + ")");
+            }
+        }
+
+        if (tableExists(connection, "academic_schedule")) {
+            addScheduleRange(connection);
+            backfillScheduleRange(connection);
+        }
+    }
+
+    // yyyy-MM-dd 형식이 아닌 값(빈 문자열 등)은 NULL로 정리한 뒤 타입 변경 (기존 (meal_date, meal_time) 인덱스는 유지됨)
+    private void convertToDate(Connection connection, String table, String column) throws SQLException {
+        if ("date".equalsIgnoreCase(columnType(connection, table, column))) return;
+        execute(connection, "UPDATE " + table + " SET " + column + " = NULL WHERE " + column + " IS NOT NULL AND "
+                + column + " NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$'");
+        execute(connection, "ALTER TABLE " + table + " MODIFY " + column + " DATE NULL");
+    }
+
+    private void addScheduleRange(Connection connection) throws SQLException {
+        if (columnType(connection, "academic_schedule", "start_date") == null) {
+            execute(connection, "ALTER TABLE academic_schedule ADD COLUMN start_date DATE NULL, ADD COLUMN end_date DATE NULL");
+        }
+        if (!indexExists(connection, "academic_schedule", "idx_academic_schedule_range")) {
+            execute(connection, "CREATE INDEX idx_academic_schedule_range ON academic_schedule (start_date, end_date)");
+        }
+    }
+
+    private void backfillScheduleRange(Connection connection) throws SQLException {
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(
+                     "SELECT id, date, content FROM academic_schedule WHERE start_date IS NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE academic_schedule SET start_date = ?, end_date = ? WHERE id = ?")) {
+            int pending = 0;
+            while (rows.next()) {
+                LocalDate[] range = scheduleDateRange(rows.getString("content"), rows.getString("date"));
+                if (range == null) continue;
+                update.setDate(1, Date.valueOf(range[0]));
+                update.setDate(2, Date.valueOf(range[1]));
+                update.setLong(3, rows.getLong("id"));
+                update.addBatch();
+                if (++pending % 500 == 0) update.executeBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    // content의 MM.DD (요일) ~ MM.DD (요일) 또는 MM.DD (요일), 연도는 date 컬럼의 4자리 연도(없으면 올해)
+    private static LocalDate[] scheduleDateRange(String content, String dateText) {
+        if (content == null || content.isBlank()) return null;
+        Matcher yearMatcher = YEAR_PATTERN.matcher(dateText != null ? dateText : "");
+        int year = yearMatcher.find() ? Integer.parseInt(yearMatcher.group()) : LocalDate.now().getYear();
+
+        try {
+            Matcher matcher = RANGE_PATTERN.matcher(content);
+            if (matcher.find()) {
+                LocalDate start = LocalDate.parse(year + "-" + matcher.group(1).replace(".", "-"));
+                LocalDate end = LocalDate.parse(year + "-" + matcher.group(2).replace(".", "-"));
+                if (end.isBefore(start)) end = end.plusYears(1);
+                return new LocalDate[]{start, end};
+            }
+
+            matcher = SINGLE_DAY_PATTERN.matcher(content);
+            if (matcher.find()) {
+                LocalDate day = LocalDate.parse(year + "-" + matcher.group(1).replace(".", "-"));
+                return new LocalDate[]{day, day};
+            }
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private boolean tableExists(Connection connection, String table) throws SQLException {
+        return count(connection, "SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?", table) > 0;
+    }
+
+    private boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        return count(connection, "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", table, index) > 0;
+    }
+
+    private String columnType(Connection connection, String table, String column) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?")) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getString(1) : null;
+            }
+        }
+    }
+
+    private long count(Connection connection, String sql, String... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setString(i + 1, params[i]);
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getLong(1) : 0;
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
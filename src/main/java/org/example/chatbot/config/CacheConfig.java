@@ -11,9 +11,13 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    // 엔티티 구조가 바뀌면(예: 날짜 컬럼 String → LocalDate) 이전에 직렬화된 캐시를 읽지 않도록 버전을 올림
+    private static final String CACHE_KEY_VERSION = "v2";
+
     @Bean
     public RedisCacheConfiguration redisCacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
+                .computePrefixWith(cacheName -> cacheName + ":" + CACHE_KEY_VERSION + "::")
                 .entryTtl(Duration.ofHours(6))
                 .disableCachingNullValues();
     }
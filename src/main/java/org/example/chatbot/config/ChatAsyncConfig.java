@@ -0,0 +1,94 @@
+package org.example.chatbot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 처리용 스레드 풀 설정입니다.
+ * - chatStreamExecutor: 요청 스레드는 SseEmitter만 반환하고, 질문 처리와 GPT 스트림 전달은 이 풀에서 수행
+ * - chatPipelineExecutor: 한 질문 안에서 intent 분류와 세션 조회를 동시에 실행
+ *   (풀이 가득 차면 호출 스레드에서 실행해 순차 처리로 자연스럽게 물러남)
+ * - noticeSearchExecutor: 통합 공지 검색의 게시판별 조회 (큐가 가득 차면 거부해 해당 게시판을 결과에서 제외,
+ *   호출 스레드에서 실행하면 데드라인이 지켜지지 않으므로)
+ * - chatJdbcScheduler: reactive 모드에서 블로킹 테이블 조회(JPA)만 격리해 실행 (커넥션 풀 크기에 맞춰 제한)
+ * spring.threads.virtual.enabled=true(virtual 프로필)이면 세 executor는 작업마다 가상 스레드를 만들며,
+ * 동시 실행 수 제한은 GptGuard bulkhead와 커넥션 풀이 맡습니다.
+ */
+@Configuration
+public class ChatAsyncConfig {
+
+    @Value("${chatbot.chat.stream-threads:32}")
+    private int streamThreads;
+
+    @Value("${chatbot.chat.stream-queue:200}")
+    private int streamQueue;
+
+    @Value("${chatbot.chat.pipeline-threads:64}")
+    private int pipelineThreads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${chatbot.notice.cross-board.threads:16}")
+    private int noticeSearchThreads;
+
+    @Value("${chatbot.notice.cross-board.queue:64}")
+    private int noticeSearchQueue;
+
+    @Value("${chatbot.chat.jdbc-threads:10}")
+    private int jdbcThreads;
+
+    @Value("${chatbot.chat.jdbc-queue:1000}")
+    private int jdbcQueue;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService chatStreamExecutor() {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-stream-", 1).factory());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(streamThreads, streamThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(streamQueue),
+                runnable -> new Thread(runnable, "chat-stream-" + sequence.incrementAndGet()));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService chatPipelineExecutor() {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-pipeline-", 1).factory());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(pipelineThreads, pipelineThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> new Thread(runnable, "chat-pipeline-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService noticeSearchExecutor() {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notice-search-", 1).factory());
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(noticeSearchThreads, noticeSearchThreads,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(noticeSearchQueue),
+                runnable -> new Thread(runnable, "notice-search-" + sequence.incrementAndGet()));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    @Profile("reactive")
+    public Scheduler chatJdbcScheduler() {
+        return Schedulers.newBoundedElastic(jdbcThreads, jdbcQueue, "chat-jdbc");
+    }
+}
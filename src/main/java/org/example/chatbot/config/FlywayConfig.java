@@ -0,0 +1,20 @@
+package org.example.chatbot.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 크롤러가 먼저 만든 기존 스키마에도 마이그레이션을 적용할 수 있도록,
+     * 이력 테이블이 없으면 버전 0으로 baseline을 잡고 V1부터 실행합니다.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.chatbot.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OpenAI 호출 전용 HTTP 클라이언트 설정입니다.
+ * 커넥션 풀 크기와 연결/읽기/풀 대기 타임아웃을 명시하고, 풀 상태를 메트릭으로 노출합니다.
+ */
+@Configuration
+public class GptClientConfig {
+
+    @Value("${openai.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${openai.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${openai.client.read-timeout-ms:20000}")
+    private long readTimeoutMs;
+
+    @Value("${openai.client.pool-timeout-ms:1000}")
+    private long poolTimeoutMs;
+
+    @Bean
+    public PoolingHttpClientConnectionManager gptConnectionManager(MeterRegistry meterRegistry) {
+        Timer waitTimer = Timer.builder("chatbot.gpt.pool.wait")
+                .description("GPT 커넥션 풀에서 커넥션을 얻기까지 대기한 시간")
+                .register(meterRegistry);
+
+        PoolingHttpClientConnectionManager connectionManager = new MeteredConnectionManager(waitTimer);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build());
+
+        Gauge.builder("chatbot.gpt.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .description("사용 중인 GPT 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.gpt.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .description("커넥션을 기다리는 GPT 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.gpt.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .description("유휴 GPT 커넥션 수")
+                .register(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient gptHttpClient(PoolingHttpClientConnectionManager gptConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(gptConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    /**
+     * 커넥션 임대(lease) 대기 시간을 기록하는 커넥션 매니저입니다.
+     */
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer waitTimer;
+
+        MeteredConnectionManager(Timer waitTimer) {
+            this.waitTimer = waitTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.chatbot.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * GPT 호출 종류(intent 분류, fallback 답변, 식단 포맷팅)별 요청 프로필입니다.
+ * 예) openai.profiles.intent.max-tokens=60, openai.profiles.fallback.model=gpt-4o
+ * model을 지정하지 않으면 openai.api.model을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openai.profiles")
+public class GptProfileProperties {
+
+    // intent 분류: JSON 한 줄이면 충분하므로 토큰 상한과 데드라인을 짧게 잡음
+    private Profile intent = new Profile(null, 60, 0.0, 8000, true, true);
+
+    private Profile fallback = new Profile(null, 500, 0.0, 20000, false, true);
+
+    // 배치 포맷팅은 식단 수만큼 maxTokens를 곱해 사용
+    private Profile mealFormat = new Profile(null, 500, 0.0, 30000, false, false);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Profile {
+
+        private String model;
+        private int maxTokens;
+        private double temperature;
+        private long timeoutMs;
+
+        // true이면 response_format(json_schema)으로 구조화된 출력을 요청
+        private boolean structuredOutput;
+
+        // true이면 openai.hedging.enabled일 때 hedged request로 호출 (지연에 민감한 호출만)
+        private boolean hedged;
+    }
+}
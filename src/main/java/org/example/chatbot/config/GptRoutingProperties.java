@@ -0,0 +1,56 @@
+package org.example.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 OpenAI 호환 엔드포인트 간 라우팅 설정입니다.
+ * endpoints가 비어 있으면 openai.api.url / openai.api.key 하나만 사용합니다.
+ * 예)
+ * openai.routing.endpoints[0].name=primary
+ * openai.routing.endpoints[0].url=https://api.openai.com/v1/chat/completions
+ * openai.routing.endpoints[1].name=intent-mini
+ * openai.routing.endpoints[1].model=gpt-4o-mini
+ * openai.routing.endpoints[1].call-types=intent,intent-batch
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "openai.routing")
+public class GptRoutingProperties {
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    // 응답 시간/오류율 EWMA 가중치 (클수록 최근 호출을 크게 반영)
+    private double ewmaAlpha = 0.2;
+
+    // 오류율 EWMA가 이 값 이상이면 ejectDurationMs 동안 라우팅에서 제외
+    private double ejectErrorRate = 0.5;
+
+    private int ejectMinimumCalls = 5;
+
+    private long ejectDurationMs = 30000;
+
+    // 성공 샘플이 아직 없는 엔드포인트의 응답 시간 EWMA 초기값(ms), 0이면 새 엔드포인트가 항상 가장 빠른 것으로 보임
+    private double initialLatencyMs = 2000;
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private String name;
+        private String url;
+        private String key;
+
+        // 지정하면 요청의 model을 이 값으로 바꿔 보냄
+        private String model;
+
+        // 이 엔드포인트로 보낼 호출 종류 (intent, intent-batch, fallback, meal-format), 비어 있으면 전체
+        private List<String> callTypes = new ArrayList<>();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.chatbot.config;
+
+/**
+ * 키워드 검색 방식입니다. (chatbot.search.mode)
+ * - LIKE: '%키워드%' 부분 일치 (기본값), 챗봇의 공지 검색은 메모리 제목 색인(NoticeTitleIndex) 사용
+ * - FULLTEXT: MySQL FULLTEXT(ngram parser) 인덱스의 MATCH ... AGAINST 검색, 관련도와 날짜 순 정렬
+ */
+public enum SearchMode {
+
+    LIKE,
+    FULLTEXT;
+
+    // ngram_token_size 기본값(2)보다 짧은 키워드는 FULLTEXT 인덱스로 찾을 수 없음
+    private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
+
+    /**
+     * keyword 검색에 FULLTEXT 쿼리를 쓸지 여부입니다. 한 글자 키워드는 LIKE로 검색합니다.
+     */
+    public boolean usesFullText(String keyword) {
+        return this == FULLTEXT && keyword != null && keyword.strip().length() >= MIN_FULLTEXT_KEYWORD_LENGTH;
+    }
+}
@@ -1,16 +1,25 @@
 package org.example.chatbot.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.chatbot.dto.DormMealFormatReportDto;
+import org.example.chatbot.dto.MealSnapshotStatsDto;
+import org.example.chatbot.dto.NoticeIndexStatsDto;
 import org.example.chatbot.service.DormMealFormatterScheduler;
+import org.example.chatbot.service.MealSnapshotStore;
+import org.example.chatbot.service.NoticeTitleIndex;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin")
 public class AdminController {
 
     private final DormMealFormatterScheduler dormMealFormatterScheduler;
+    private final MealSnapshotStore mealSnapshotStore;
+    private final NoticeTitleIndex noticeTitleIndex;
 
     /**
      * 수동 포맷팅 트리거 API
@@ -18,7 +27,25 @@ public class AdminController {
      */
     @PostMapping("/format-dorm-meal")
     public ResponseEntity<String> triggerDormMealFormatting() {
-        dormMealFormatterScheduler.formatDormMeals();
-        return ResponseEntity.ok("✅ DormMeal 포맷팅 수동 실행 완료");
+        DormMealFormatReportDto report = dormMealFormatterScheduler.formatDormMeals();
+        return ResponseEntity.ok("✅ DormMeal 포맷팅 수동 실행 완료: " + report.summary());
+    }
+
+    /**
+     * 식당별 식단 스냅샷 크기와 추정 메모리 사용량
+     * GET /api/admin/meal-snapshot
+     */
+    @GetMapping("/meal-snapshot")
+    public ResponseEntity<List<MealSnapshotStatsDto>> mealSnapshotStats() {
+        return ResponseEntity.ok(mealSnapshotStore.stats());
+    }
+
+    /**
+     * 게시판별 공지사항 제목 색인 크기와 검색 시간
+     * GET /api/admin/notice-index
+     */
+    @GetMapping("/notice-index")
+    public ResponseEntity<List<NoticeIndexStatsDto>> noticeIndexStats() {
+        return ResponseEntity.ok(noticeTitleIndex.stats());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package org.example.chatbot.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.dto.CrossBoardNoticeSearchDto;
+import org.example.chatbot.service.CrossBoardNoticeSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+import static org.example.chatbot.util.DateTimeExtractor.parseDateQuery;
+
+@RestController
+@RequestMapping("/api/notices")
+@RequiredArgsConstructor
+public class NoticeSearchController {
+
+    private final CrossBoardNoticeSearchService service;
+
+    /**
+     * 학사/장학/한경 공지 통합 검색 API
+     * GET /api/notices/search?keyword=등록금&date=2025-03&limit=10
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CrossBoardNoticeSearchDto> searchNotices(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) Integer limit) {
+
+        if (keyword.isBlank() || (limit != null && limit > CrossBoardNoticeSearchService.MAX_LIMIT)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDate[] range = date != null ? parseDateQuery(date) : new LocalDate[]{null, null};
+        if (range == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.search(keyword.strip(), range[0], range[1], limit));
+    }
+}
@@ -3,9 +3,10 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "academic_notices")
+@Table(name = "academic_notices", indexes = @Index(name = "idx_academic_notices_date", columnList = "notice_date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +20,7 @@ public class AcademicNotice implements Serializable {
     private Long id;
 
     private String title;
-    private String noticeDate;
+    private LocalDate noticeDate;
     private String author;
 
     @Column(columnDefinition = "TEXT")
@@ -2,10 +2,14 @@ package org.example.chatbot.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.chatbot.util.DateTimeExtractor;
+
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
-@Table(name = "academic_schedule")
+@Table(name = "academic_schedule", indexes = @Index(name = "idx_academic_schedule_range", columnList = "start_date, end_date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,4 +30,61 @@ public class AcademicSchedule implements Serializable {
 
     @Column(length = 64, unique = true)
     private String hash;
-}
\ No newline at end of file
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // 조회 시점의 content/date, 수정 시 기간을 다시 계산할지 판단 (저장/직렬화 대상 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String loadedContent;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String loadedDate;
+
+    /**
+     * 저장 시 내용에서 일정 기간을 추출해 start_date/end_date를 채웁니다. (추출할 수 없으면 null 유지)
+     * 기간을 직접 지정한 경우에는 그대로 둡니다.
+     * 크롤러가 직접 넣은 행은 AcademicScheduleDateBackfillScheduler가 채웁니다.
+     */
+    @PrePersist
+    public void fillDateRange() {
+        if (startDate != null && endDate != null) return;
+        applyDateRange();
+    }
+
+    @PostLoad
+    void rememberRangeSource() {
+        loadedContent = content;
+        loadedDate = date;
+    }
+
+    /**
+     * 수정 시 content/date가 바뀌었거나 기간이 비어 있으면 기간을 다시 계산합니다.
+     * 바뀐 내용에서 기간을 추출할 수 없으면 이전 기간을 지워 잘못된 기간으로 조회되지 않게 합니다.
+     */
+    @PreUpdate
+    void refillDateRange() {
+        boolean sourceChanged = !Objects.equals(content, loadedContent) || !Objects.equals(date, loadedDate);
+        if (!sourceChanged && startDate != null && endDate != null) return;
+        if (sourceChanged) {
+            startDate = null;
+            endDate = null;
+        }
+        applyDateRange();
+        rememberRangeSource();
+    }
+
+    private void applyDateRange() {
+        LocalDate[] range = DateTimeExtractor.extractScheduleDateRange(content, date);
+        if (range == null) return;
+        startDate = range[0];
+        endDate = range[1];
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.chatbot.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 기숙사 식단 원본 해시(DormMeal.hash) → 후처리까지 끝난 포맷팅 결과 메모입니다.
+ * 같은 원본이 다시 포맷팅 대상이 되면 GPT를 호출하지 않고 이 값을 재사용합니다.
+ */
+@Entity
+@Table(name = "formatted_menu_memo")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormattedMenuMemo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "formatted_menu", columnDefinition = "TEXT", nullable = false)
+    private String formattedMenu;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
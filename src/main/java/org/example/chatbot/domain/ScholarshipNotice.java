@@ -3,9 +3,10 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "scholarship_notices")
+@Table(name = "scholarship_notices", indexes = @Index(name = "idx_scholarship_notices_date", columnList = "notice_date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +21,7 @@ public class ScholarshipNotice implements Serializable {
 
     private String title;
 
-    private String noticeDate;
+    private LocalDate noticeDate;
 
     private String author;
 
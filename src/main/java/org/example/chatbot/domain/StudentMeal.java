@@ -3,9 +3,10 @@ package org.example.chatbot.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "student_meals")
+@Table(name = "student_meals", indexes = @Index(name = "idx_student_meals_date_time", columnList = "meal_date, meal_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +19,7 @@ public class StudentMeal implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String mealDate;
+    private LocalDate mealDate;
 
     private String mealTime;
 
@@ -0,0 +1,56 @@
+package org.example.chatbot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * OpenAI 호환 Chat Completions 요청 본문입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatCompletionRequestDto {
+
+    private String model;
+    private List<Message> messages;
+    private Double temperature;
+
+    @JsonProperty("max_tokens")
+    private Integer maxTokens;
+
+    // 구조화된 출력 요청 시 {"type": "json_schema", "json_schema": {...}}
+    @JsonProperty("response_format")
+    private JsonNode responseFormat;
+
+    // true이면 응답을 SSE(data: {...}) 청크로 받음
+    private Boolean stream;
+
+    public static ChatCompletionRequestDto ofUserPrompt(String model, String prompt, double temperature, int maxTokens) {
+        return new ChatCompletionRequestDto(model, List.of(new Message("user", prompt)), temperature, maxTokens, null, null);
+    }
+
+    /**
+     * model만 바꾼 사본을 반환합니다. (엔드포인트별 모델 지정용, model이 null이거나 같으면 자기 자신)
+     */
+    public ChatCompletionRequestDto withModel(String model) {
+        if (model == null || model.equals(this.model)) return this;
+        return new ChatCompletionRequestDto(model, messages, temperature, maxTokens, responseFormat, stream);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Message {
+        private String role;
+        private String content;
+    }
+}
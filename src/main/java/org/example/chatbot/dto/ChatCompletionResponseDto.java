@@ -0,0 +1,59 @@
+package org.example.chatbot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * OpenAI 호환 Chat Completions 응답 본문입니다. 사용하지 않는 필드는 무시합니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionResponseDto {
+
+    private String id;
+    private String model;
+    private List<Choice> choices;
+    private Usage usage;
+
+    /**
+     * 첫 번째 choice의 메시지 내용을 반환합니다.
+     *
+     * @return 응답 텍스트 (앞뒤 공백 제거), 없으면 null
+     */
+    public String firstContent() {
+        if (choices == null || choices.isEmpty()) return null;
+        ChatCompletionRequestDto.Message message = choices.get(0).getMessage();
+        if (message == null || message.getContent() == null) return null;
+        return message.getContent().trim();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private int index;
+        private ChatCompletionRequestDto.Message message;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private int promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private int completionTokens;
+
+        @JsonProperty("total_tokens")
+        private int totalTokens;
+    }
+}
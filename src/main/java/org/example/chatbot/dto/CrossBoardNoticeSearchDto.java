@@ -0,0 +1,33 @@
+package org.example.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학사/장학/한경 공지 통합 검색 결과입니다. 세 게시판의 결과를 게시일 최신순 하나의 목록으로 합친 것입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CrossBoardNoticeSearchDto {
+
+    private final String keyword;
+    private final List<Item> notices;
+    // 데드라인 안에 응답하지 못해 결과에서 빠진 게시판
+    private final List<String> timedOutBoards;
+
+    /**
+     * 게시판 이름이 붙은 공지사항 한 건입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+
+        private final String board;
+        private final long id;
+        private final LocalDate noticeDate;
+        private final String title;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기숙사 식단 포맷팅 작업 1회 실행 결과입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class DormMealFormatReportDto {
+
+    private final int total;
+    private final int formatted;
+    private final int memoHits;
+    private final int localParsed;
+    private final int failed;
+    private final long elapsedMillis;
+    private final boolean skipped;
+
+    public static DormMealFormatReportDto skippedRun() {
+        return new DormMealFormatReportDto(0, 0, 0, 0, 0, 0, true);
+    }
+
+    /**
+     * 초당 처리한 식단 수 (성공 + 실패)
+     */
+    public double getThroughputPerSecond() {
+        if (elapsedMillis <= 0) return 0.0;
+        return (formatted + failed) * 1000.0 / elapsedMillis;
+    }
+
+    public String summary() {
+        if (skipped) return "이미 실행 중인 포맷팅 작업이 있어 건너뛰었습니다.";
+        return String.format("대상 %d건, 성공 %d건(메모 재사용 %d건, 로컬 파싱 %d건), 실패 %d건, %.1f초 (%.2f건/초)",
+                total, formatted, memoHits, localParsed, failed, elapsedMillis / 1000.0, getThroughputPerSecond());
+    }
+}
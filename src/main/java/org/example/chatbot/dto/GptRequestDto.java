@@ -6,4 +6,5 @@ import lombok.Data;
 public class GptRequestDto {
     private String message;
     private String userId; // Redis 키 식별용
+    private String continuationToken;   // 공지사항 "더 보기" 토큰 (이전 응답에서 받은 값, 선택)
 }
@@ -8,6 +8,7 @@ public class GptResponseDto {
     private String intent;
     private String answer;      // fallback용
     private Object data;        // 테이블 결과용
+    private String continuationToken;   // 공지사항 "더 보기" 토큰 (다음 페이지가 있을 때만)
 
     public GptResponseDto(String intent, String answer) {
         this.intent = intent;
@@ -0,0 +1,30 @@
+package org.example.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 식당별 식단 스냅샷 크기와 추정 메모리 사용량입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MealSnapshotStatsDto {
+
+    private final String cafeteria;
+    private final int days;
+    private final int entries;
+    private final long estimatedBytes;
+
+    /**
+     * 현재 날짜당 평균 사용량으로 환산한 1년치(365일) 추정 메모리
+     */
+    public long getBytesPerYear() {
+        if (days == 0) return 0;
+        return estimatedBytes * 365 / days;
+    }
+
+    public String summary() {
+        return String.format("%s %d일/%d건 %.1fKB (1년치 약 %.1fKB)",
+                cafeteria, days, entries, estimatedBytes / 1024.0, getBytesPerYear() / 1024.0);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판별 공지사항 제목 색인 크기와 검색 시간입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeIndexStatsDto {
+
+    private final String board;
+    private final int documents;
+    private final int grams;
+    private final long postings;
+    private final long estimatedBytes;
+    private final long queries;
+    private final double meanQueryMicros;
+    private final double maxQueryMicros;
+
+    public String summary() {
+        return String.format("%s 문서 %d건, bigram %d개, 포스팅 %d개, %.1fKB",
+                board, documents, grams, postings, estimatedBytes / 1024.0);
+    }
+}
@@ -2,18 +2,65 @@ package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.AcademicSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.chatbot.repository.FullTextQueries.PHRASE;
+
 @Repository
 public interface AcademicScheduleRepository extends JpaRepository<AcademicSchedule, Long> {
 
-    List<AcademicSchedule> findByDateContainingAndContentContaining(String date, String keyword);
+    /**
+     * 기간과 겹치는 학사일정 중 내용에 키워드를 포함한 일정을 조회합니다.
+     */
+    @Query("SELECT s FROM AcademicSchedule s WHERE s.startDate <= :endDate AND s.endDate >= :startDate " +
+            "AND s.content LIKE CONCAT('%', :keyword, '%') ORDER BY s.startDate, s.id")
+    List<AcademicSchedule> findOverlappingAndContentContaining(@Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate,
+                                                               @Param("keyword") String keyword);
 
-    List<AcademicSchedule> findByDateContaining(String date);
+    /**
+     * 기간과 겹치는 학사일정을 조회합니다. (start_date, end_date) 인덱스 사용
+     */
+    @Query("SELECT s FROM AcademicSchedule s WHERE s.startDate <= :endDate AND s.endDate >= :startDate " +
+            "ORDER BY s.startDate, s.id")
+    List<AcademicSchedule> findOverlapping(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
 
     List<AcademicSchedule> findByContentContaining(String keyword);
 
+    /**
+     * id 이후에 추가된 학사일정 중 기간(start_date)이 아직 채워지지 않은 행을 id 순으로 조회합니다. (크롤러가 직접 넣은 행)
+     */
+    List<AcademicSchedule> findByStartDateIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
     List<AcademicSchedule> findAll();
-}
\ No newline at end of file
+
+    /**
+     * 테이블 변경 감지용 지문입니다. (행 수, 최대 id, 기간이 채워진 행 수, 내용 해시 합)
+     */
+    @Query(value = "SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COUNT(start_date), ':', " +
+            "COALESCE(SUM(CRC32(hash)), 0)) FROM academic_schedule", nativeQuery = true)
+    String fingerprint();
+
+    /**
+     * 내용 FULLTEXT(ngram) 인덱스로 학사일정을 검색합니다. 관련도, 시작일 순으로 정렬합니다.
+     */
+    @Query(value = "SELECT * FROM academic_schedule WHERE MATCH(content) " + PHRASE +
+            " ORDER BY MATCH(content) " + PHRASE + " DESC, start_date, id", nativeQuery = true)
+    List<AcademicSchedule> searchByContentFullText(@Param("keyword") String keyword);
+
+    /**
+     * 기간과 겹치는 학사일정 중 내용 FULLTEXT(ngram) 인덱스로 검색합니다. 관련도, 시작일 순으로 정렬합니다.
+     */
+    @Query(value = "SELECT * FROM academic_schedule WHERE start_date <= :endDate AND end_date >= :startDate " +
+            "AND MATCH(content) " + PHRASE + " ORDER BY MATCH(content) " + PHRASE +
+            " DESC, start_date, id", nativeQuery = true)
+    List<AcademicSchedule> searchOverlappingAndContentFullText(@Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate,
+                                                               @Param("keyword") String keyword);
+}
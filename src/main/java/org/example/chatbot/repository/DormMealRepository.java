@@ -3,29 +3,44 @@ package org.example.chatbot.repository;
 import org.example.chatbot.domain.DormMeal;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.chatbot.repository.FullTextQueries.PHRASE;
+
 @Repository
 public interface DormMealRepository extends JpaRepository<DormMeal, Long> {
 
     /**
-     * 날짜와 메뉴를 기준으로 기숙사 식단을 검색합니다.
+     * 기간과 메뉴 키워드로 기숙사 식단을 검색합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
-     * @param keyword 메뉴 키워드 (부분 일치)
-     * @return 검색된 식단 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (부분 일치)
+     * @return 검색된 기숙사 식단 목록
      */
-    List<DormMeal> findByMealDateContainingAndMenuContaining(String mealDate, String keyword);
+    List<DormMeal> findByMealDateBetweenAndMenuContaining(LocalDate startDate, LocalDate endDate, String keyword);
 
     /**
-     * 날짜만으로 기숙사 식단을 검색합니다.
+     * 기간으로 기숙사 식단을 검색합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
-     * @return 검색된 식단 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 검색된 기숙사 식단 목록
+     */
+    List<DormMeal> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간 안의 기숙사 식단을 날짜순으로 조회합니다. (meal_date, meal_time) 인덱스 범위 조회
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 기간 안의 기숙사 식단 목록
      */
-    List<DormMeal> findByMealDateContaining(String mealDate);
+    List<DormMeal> findByMealDateBetweenOrderByMealDateAscIdAsc(LocalDate startDate, LocalDate endDate);
 
     /**
      * 메뉴 키워드로 기숙사 식단을 검색합니다.
@@ -50,4 +65,37 @@ public interface DormMealRepository extends JpaRepository<DormMeal, Long> {
      */
     @Query("SELECT d FROM DormMeal d WHERE d.formattedMenu IS NULL OR d.formattedMenu = ''")
     List<DormMeal> findDormMealsToFormat();
-}
\ No newline at end of file
+
+    /**
+     * 식단 스냅샷 갱신 여부 판단용 테이블 지문입니다. (행 수, 최대 id, 원본 해시 합, 포맷팅 결과 합)
+     */
+    @Query(value = "SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COALESCE(SUM(CRC32(hash)), 0)" +
+            ", ':', COALESCE(SUM(CRC32(formatted_menu)), 0)) FROM dorm_meals", nativeQuery = true)
+    String fingerprint();
+
+    /**
+     * 메뉴 FULLTEXT(ngram) 인덱스로 기숙사 식단을 검색합니다. 관련도, 날짜 순으로 정렬합니다.
+     *
+     * @param keyword 메뉴 키워드 (구문 검색)
+     * @return 검색된 기숙사 식단 목록
+     */
+    @Query(value = "SELECT * FROM dorm_meals WHERE MATCH(menu, formatted_menu) " + PHRASE +
+            " ORDER BY MATCH(menu, formatted_menu) " + PHRASE + " DESC, meal_date DESC, id",
+            nativeQuery = true)
+    List<DormMeal> searchByMenuFullText(@Param("keyword") String keyword);
+
+    /**
+     * 기간 안에서 메뉴 FULLTEXT(ngram) 인덱스로 기숙사 식단을 검색합니다. 관련도, 날짜 순으로 정렬합니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (구문 검색)
+     * @return 검색된 기숙사 식단 목록
+     */
+    @Query(value = "SELECT * FROM dorm_meals WHERE meal_date BETWEEN :startDate AND :endDate " +
+            "AND MATCH(menu, formatted_menu) " + PHRASE + " ORDER BY MATCH(menu, formatted_menu) " + PHRASE + " DESC, meal_date DESC, id",
+            nativeQuery = true)
+    List<DormMeal> searchByMealDateBetweenAndMenuFullText(@Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate,
+                                                          @Param("keyword") String keyword);
+}
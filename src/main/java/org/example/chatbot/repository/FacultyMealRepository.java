@@ -2,29 +2,56 @@ package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.FacultyMeal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.chatbot.repository.FullTextQueries.PHRASE;
+
 @Repository
 public interface FacultyMealRepository extends JpaRepository<FacultyMeal, Long> {
 
     /**
-     * 날짜와 메뉴를 기준으로 교직원 식단을 검색합니다.
+     * 기간과 메뉴 키워드로 교직원 식단을 검색합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
-     * @param keyword 메뉴 키워드 (부분 일치)
-     * @return 검색된 식단 목록
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (부분 일치)
+     * @return 검색된 교직원 식단 목록
+     */
+    List<FacultyMeal> findByMealDateBetweenAndMenuContaining(LocalDate startDate, LocalDate endDate, String keyword);
+
+    /**
+     * 기간으로 교직원 식단을 검색합니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 검색된 교직원 식단 목록
+     */
+    List<FacultyMeal> findByMealDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간 안의 교직원 식단을 날짜순으로 조회합니다. (meal_date, meal_time) 인덱스 범위 조회
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @return 기간 안의 교직원 식단 목록
      */
-    List<FacultyMeal> findByMealDateContainingAndMenuContaining(String mealDate, String keyword);
+    List<FacultyMeal> findByMealDateBetweenOrderByMealDateAscIdAsc(LocalDate startDate, LocalDate endDate);
 
     /**
-     * 날짜만으로 교직원 식단을 검색합니다.
+     * 기간 안에서 메뉴 키워드를 포함한 교직원 식단을 날짜순으로 조회합니다.
      *
-     * @param mealDate 날짜 (부분 일치)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (부분 일치)
      * @return 검색된 식단 목록
      */
-    List<FacultyMeal> findByMealDateContaining(String mealDate);
+    List<FacultyMeal> findByMealDateBetweenAndMenuContainingOrderByMealDateAscIdAsc(LocalDate startDate, LocalDate endDate,
+                                                                                     String keyword);
 
     /**
      * 메뉴 키워드로 교직원 식단을 검색합니다.
@@ -40,4 +67,36 @@ public interface FacultyMealRepository extends JpaRepository<FacultyMeal, Long>
      * @return 전체 식단 목록
      */
     List<FacultyMeal> findAll();
-}
\ No newline at end of file
+
+    /**
+     * 식단 스냅샷 갱신 여부 판단용 테이블 지문입니다. (행 수, 최대 id, 원본 해시 합)
+     */
+    @Query(value = "SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COALESCE(SUM(CRC32(hash)), 0)" +
+            ") FROM faculty_meals", nativeQuery = true)
+    String fingerprint();
+
+    /**
+     * 메뉴 FULLTEXT(ngram) 인덱스로 교직원 식단을 검색합니다. 관련도, 날짜 순으로 정렬합니다.
+     *
+     * @param keyword 메뉴 키워드 (구문 검색)
+     * @return 검색된 교직원 식단 목록
+     */
+    @Query(value = "SELECT * FROM faculty_meals WHERE MATCH(menu) " + PHRASE +
+            " ORDER BY MATCH(menu) " + PHRASE + " DESC, meal_date DESC, id", nativeQuery = true)
+    List<FacultyMeal> searchByMenuFullText(@Param("keyword") String keyword);
+
+    /**
+     * 기간 안에서 메뉴 FULLTEXT(ngram) 인덱스로 교직원 식단을 검색합니다. 관련도, 날짜 순으로 정렬합니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   메뉴 키워드 (구문 검색)
+     * @return 검색된 교직원 식단 목록
+     */
+    @Query(value = "SELECT * FROM faculty_meals WHERE meal_date BETWEEN :startDate AND :endDate AND MATCH(menu) " +
+            PHRASE + " ORDER BY MATCH(menu) " + PHRASE + " DESC, meal_date DESC, id",
+            nativeQuery = true)
+    List<FacultyMeal> searchByMealDateBetweenAndMenuFullText(@Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate,
+                                                             @Param("keyword") String keyword);
+}
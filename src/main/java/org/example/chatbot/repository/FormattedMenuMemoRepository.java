@@ -0,0 +1,9 @@
+package org.example.chatbot.repository;
+
+import org.example.chatbot.domain.FormattedMenuMemo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FormattedMenuMemoRepository extends JpaRepository<FormattedMenuMemo, String> {
+}
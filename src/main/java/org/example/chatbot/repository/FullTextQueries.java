@@ -0,0 +1,17 @@
+package org.example.chatbot.repository;
+
+/**
+ * FULLTEXT(ngram parser) 네이티브 쿼리에서 함께 쓰는 조각입니다. (chatbot.search.mode=fulltext)
+ */
+final class FullTextQueries {
+
+    /**
+     * :keyword를 큰따옴표 구문으로 감싼 BOOLEAN MODE 검색입니다.
+     * ngram 토큰이 연속해야 일치하므로 LIKE '%키워드%'와 같은 부분 문자열 검색이 되고, 키워드의 큰따옴표는 제거합니다.
+     * MATCH(...) 뒤에 붙여 WHERE 조건과 ORDER BY 관련도 정렬에 같이 사용합니다.
+     */
+    static final String PHRASE = "AGAINST(CONCAT('\"', REPLACE(:keyword, '\"', ''), '\"') IN BOOLEAN MODE)";
+
+    private FullTextQueries() {
+    }
+}
@@ -1,30 +1,38 @@
 package org.example.chatbot.repository;
 
 import org.example.chatbot.domain.ScholarshipNotice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.chatbot.repository.FullTextQueries.PHRASE;
+
 @Repository
 public interface ScholarshipNoticeRepository extends JpaRepository<ScholarshipNotice, Long> {
 
     /**
-     * 날짜와 제목을 기준으로 장학 공지사항을 검색합니다.
+     * 기간과 제목 키워드로 장학 공지사항을 검색합니다.
      *
-     * @param date  날짜 (부분 일치)
-     * @param title 제목 키워드 (부분 일치)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param title     제목 키워드 (부분 일치)
      * @return 검색된 장학 공지사항 목록
      */
-    List<ScholarshipNotice> findByNoticeDateContainingAndTitleContaining(String date, String title);
+    List<ScholarshipNotice> findByNoticeDateBetweenAndTitleContaining(LocalDate startDate, LocalDate endDate, String title);
 
     /**
-     * 날짜만으로 장학 공지사항을 검색합니다.
+     * 기간으로 장학 공지사항을 검색합니다.
      *
-     * @param date 날짜 (부분 일치)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
      * @return 검색된 장학 공지사항 목록
      */
-    List<ScholarshipNotice> findByNoticeDateContaining(String date);
+    List<ScholarshipNotice> findByNoticeDateBetween(LocalDate startDate, LocalDate endDate);
 
     /**
      * 제목 키워드로 장학 공지사항을 검색합니다.
@@ -40,4 +48,64 @@ public interface ScholarshipNoticeRepository extends JpaRepository<ScholarshipNo
      * @return 전체 장학 공지사항 목록
      */
     List<ScholarshipNotice> findAll();
-}
\ No newline at end of file
+
+    /**
+     * id가 주어진 값보다 큰 공지사항을 id 순으로 조회합니다. (제목 인덱스 증분 반영용)
+     *
+     * @param id 마지막으로 반영한 id
+     * @return 새로 적재된 공지사항 목록
+     */
+    List<ScholarshipNotice> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * 제목 인덱스 갱신 여부 판단용 테이블 지문입니다. (행 수, 최대 id, 원본 해시 합)
+     */
+    @Query(value = "SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COALESCE(SUM(CRC32(hash)), 0)" +
+            ") FROM scholarship_notices", nativeQuery = true)
+    String fingerprint();
+
+    /**
+     * 제목 FULLTEXT(ngram) 인덱스로 장학 공지사항을 검색합니다. 관련도, 게시일 순으로 정렬합니다.
+     *
+     * @param keyword 제목 키워드 (구문 검색)
+     * @return 검색된 장학 공지사항 목록
+     */
+    @Query(value = "SELECT * FROM scholarship_notices WHERE MATCH(title) " + PHRASE +
+            " ORDER BY MATCH(title) " + PHRASE + " DESC, notice_date DESC, id DESC", nativeQuery = true)
+    List<ScholarshipNotice> searchByTitleFullText(@Param("keyword") String keyword);
+
+    /**
+     * 기간 안에서 제목 FULLTEXT(ngram) 인덱스로 장학 공지사항을 검색합니다. 관련도, 게시일 순으로 정렬합니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param keyword   제목 키워드 (구문 검색)
+     * @return 검색된 장학 공지사항 목록
+     */
+    @Query(value = "SELECT * FROM scholarship_notices WHERE notice_date BETWEEN :startDate AND :endDate AND MATCH(title) " +
+            PHRASE + " ORDER BY MATCH(title) " + PHRASE + " DESC, notice_date DESC, id DESC",
+            nativeQuery = true)
+    List<ScholarshipNotice> searchByNoticeDateBetweenAndTitleFullText(@Param("startDate") LocalDate startDate,
+                                                                      @Param("endDate") LocalDate endDate,
+                                                                      @Param("keyword") String keyword);
+
+    /**
+     * 기간 안의 장학 공지사항을 (게시일, id) keyset 기준으로 최신순 조회합니다. notice_date 인덱스를 역순으로 읽습니다.
+     * 첫 페이지는 lastDate에 endDate 다음 날, lastId에 Long.MAX_VALUE를 넘깁니다.
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate   종료 날짜 (포함)
+     * @param lastDate  이전 페이지 마지막 공지의 게시일
+     * @param lastId    이전 페이지 마지막 공지의 id
+     * @param limit     최대 건수
+     * @return (lastDate, lastId)보다 오래된 장학 공지사항 목록
+     */
+    @Query("SELECT n FROM ScholarshipNotice n WHERE n.noticeDate BETWEEN :startDate AND :endDate " +
+            "AND (n.noticeDate < :lastDate OR (n.noticeDate = :lastDate AND n.id < :lastId)) " +
+            "ORDER BY n.noticeDate DESC, n.id DESC")
+    List<ScholarshipNotice> findPageByNoticeDate(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("lastDate") LocalDate lastDate,
+                                                 @Param("lastId") Long lastId,
+                                                 Limit limit);
+}
@@ -1,30 +1,54 @@
 package org.example.chatbot.service;
 
+import org.example.chatbot.config.SearchMode;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.example.chatbot.util.DateTimeExtractor.parseDateQuery;
+
 public abstract class AbstractSearchService<T> {
 
-    public List<T> search(String date, String keyword) {
-        if (date != null && keyword != null) {
-            return findByDateAndKeyword(date, keyword);
-        }
+    @Value("${chatbot.search.mode:like}")
+    private SearchMode searchMode = SearchMode.LIKE;
 
+    /**
+     * @param date    yyyy, yyyy-MM, yyyy-MM-dd 중 하나 (해당 연/월/일 범위로 검색, 해석할 수 없으면 빈 결과)
+     * @param keyword 키워드 (부분 일치, chatbot.search.mode=fulltext면 두 글자 이상 키워드는 FULLTEXT 검색)
+     */
+    public List<T> search(String date, String keyword) {
         if (date != null) {
-            return findByDate(date);
+            LocalDate[] range = parseDateQuery(date);
+            if (range == null) {
+                return List.of();
+            }
+            if (keyword == null) {
+                return findByDate(range[0], range[1]);
+            }
+            return searchMode.usesFullText(keyword)
+                    ? findByDateAndKeywordFullText(range[0], range[1], keyword)
+                    : findByDateAndKeyword(range[0], range[1], keyword);
         }
 
         if (keyword != null) {
-            return findByKeyword(keyword);
+            return searchMode.usesFullText(keyword)
+                    ? findByKeywordFullText(keyword)
+                    : findByKeyword(keyword);
         }
 
         return findAll();
     }
 
-    protected abstract List<T> findByDateAndKeyword(String date, String keyword);
+    protected abstract List<T> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword);
 
-    protected abstract List<T> findByDate(String date);
+    protected abstract List<T> findByDate(LocalDate startDate, LocalDate endDate);
 
     protected abstract List<T> findByKeyword(String keyword);
 
+    protected abstract List<T> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword);
+
+    protected abstract List<T> findByKeywordFullText(String keyword);
+
     protected abstract List<T> findAll();
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class AcademicNoticeService extends AbstractSearchService<AcademicNotice>
     }
 
     @Override
-    protected List<AcademicNotice> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByNoticeDateContainingAndTitleContaining(date, keyword);
+    protected List<AcademicNotice> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByNoticeDateBetweenAndTitleContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<AcademicNotice> findByDate(String date) {
-        return repository.findByNoticeDateContaining(date);
+    protected List<AcademicNotice> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByNoticeDateBetween(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class AcademicNoticeService extends AbstractSearchService<AcademicNotice>
         return repository.findByTitleContaining(keyword);
     }
 
+    @Override
+    protected List<AcademicNotice> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchByNoticeDateBetweenAndTitleFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<AcademicNotice> findByKeywordFullText(String keyword) {
+        return repository.searchByTitleFullText(keyword);
+    }
+
     @Override
     protected List<AcademicNotice> findAll() {
         return repository.findAll();
@@ -0,0 +1,49 @@
+package org.example.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.domain.AcademicSchedule;
+import org.example.chatbot.repository.AcademicScheduleRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크롤러가 JPA를 거치지 않고 넣은 학사일정 행의 start_date/end_date를 채웁니다.
+ * (이 애플리케이션에서 저장하는 행은 AcademicSchedule.fillDateRange가 저장 시점에 채움)
+ * 내용에서 기간을 추출할 수 없는 행은 null로 남으며 조회 대상에서 빠집니다.
+ * 이미 확인한 id 이후의 행만 읽어, 추출할 수 없는 행을 주기마다 다시 읽고 파싱하지 않습니다. (재시작 후 한 번은 다시 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AcademicScheduleDateBackfillScheduler {
+
+    private final AcademicScheduleRepository academicScheduleRepository;
+    private final AcademicScheduleIndex academicScheduleIndex;
+
+    // 기간 추출을 시도한 마지막 id (스케줄러 스레드에서만 접근)
+    private long lastCheckedId;
+
+    @Scheduled(initialDelayString = "${chatbot.schedule-dates.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${chatbot.schedule-dates.backfill-interval-ms:600000}")
+    public void backfillScheduleDates() {
+        List<AcademicSchedule> pending =
+                academicScheduleRepository.findByStartDateIsNullAndIdGreaterThanOrderByIdAsc(lastCheckedId);
+        if (pending.isEmpty()) return;
+        lastCheckedId = pending.get(pending.size() - 1).getId();
+
+        List<AcademicSchedule> filled = new ArrayList<>();
+        for (AcademicSchedule schedule : pending) {
+            schedule.fillDateRange();
+            if (schedule.getStartDate() != null) filled.add(schedule);
+        }
+        if (filled.isEmpty()) return;
+
+        academicScheduleRepository.saveAll(filled);
+        log.info("📆 학사일정 기간 채움: {}건 (추출 불가 {}건)", filled.size(), pending.size() - filled.size());
+        academicScheduleIndex.refreshIfChanged();
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.domain.AcademicSchedule;
+import org.example.chatbot.repository.AcademicScheduleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학사일정의 메모리 구간 인덱스입니다. 학사일정 intent는 MySQL을 거치지 않고 이 인덱스로 답합니다.
+ * - 일정을 시작일 순으로 정렬한 배열 위에, 각 노드가 하위 트리의 최대 종료일을 갖는 암시적 균형 이진 트리(interval tree)를 구성해
+ *   [start, end]와 겹치는 일정을 O(log n + k)에 찾습니다.
+ * - 키워드별 일정 목록(시작일 순, 종료일 순 두 벌)은 스냅샷마다 처음 조회할 때 만들어 두고,
+ *   범위 밖의 가장 가까운 일정은 두 목록을 이진 탐색해 O(log k)에 찾습니다.
+ * 테이블 지문(행 수, 최대 id, 기간이 채워진 행 수, 해시 합)이 바뀌면 새 스냅샷을 만들어 한 번에 교체하고,
+ * 학사일정 답변 캐시(RenderedAnswerCache)를 비웁니다.
+ */
+@Slf4j
+@Component
+public class AcademicScheduleIndex {
+
+    public static final String SCHEDULE = "학사일정";
+
+    // 스냅샷 하나에 기억해 둘 키워드 수 (넘으면 기억하지 않고 매번 계산)
+    private static final int MAX_KEYWORD_POSTINGS = 1024;
+
+    /**
+     * 기간이 채워진 학사일정 한 건입니다.
+     */
+    public record ScheduleEvent(long id, LocalDate start, LocalDate end, String content) {
+    }
+
+    private final AcademicScheduleRepository academicScheduleRepository;
+    private final RenderedAnswerCache renderedAnswerCache;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+    private volatile String fingerprint;
+
+    public AcademicScheduleIndex(AcademicScheduleRepository academicScheduleRepository,
+                                 RenderedAnswerCache renderedAnswerCache,
+                                 MeterRegistry meterRegistry) {
+        this.academicScheduleRepository = academicScheduleRepository;
+        this.renderedAnswerCache = renderedAnswerCache;
+
+        Gauge.builder("chatbot.schedule-index.events", this, index -> index.snapshot.byStart.length)
+                .description("학사일정 인덱스의 일정 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshIfChanged();
+    }
+
+    /**
+     * 테이블이 바뀌었으면 인덱스를 다시 만듭니다. 조회 중인 요청은 이전 스냅샷을 끝까지 사용합니다.
+     */
+    @Scheduled(initialDelayString = "${chatbot.schedule-index.refresh-interval-ms:60000}",
+            fixedDelayString = "${chatbot.schedule-index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        if (!refreshLock.tryLock()) return;
+        try {
+            String current = academicScheduleRepository.fingerprint();
+            if (current.equals(fingerprint)) return;
+
+            List<ScheduleEvent> events = new ArrayList<>();
+            for (AcademicSchedule schedule : academicScheduleRepository.findAll()) {
+                if (schedule.getStartDate() == null || schedule.getEndDate() == null) continue;
+                if (schedule.getContent() == null || schedule.getContent().isBlank()) continue;
+                events.add(new ScheduleEvent(schedule.getId(), schedule.getStartDate(), schedule.getEndDate(),
+                        schedule.getContent()));
+            }
+            snapshot = new Snapshot(events);
+            fingerprint = current;
+            renderedAnswerCache.invalidate(SCHEDULE);
+            log.info("📆 학사일정 인덱스 갱신: {}건", events.size());
+        } catch (RuntimeException e) {
+            log.warn("❗ 학사일정 인덱스 갱신 실패, 이전 인덱스를 유지합니다: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * [start, end]와 겹치는 일정을 시작일 순으로 반환합니다. null이면 해당 쪽 경계가 없는 것으로 봅니다.
+     */
+    public List<ScheduleEvent> overlapping(LocalDate start, LocalDate end) {
+        return snapshot.overlapping(start != null ? start : LocalDate.MIN, end != null ? end : LocalDate.MAX);
+    }
+
+    /**
+     * 전체 일정을 시작일 순으로 반환합니다.
+     */
+    public List<ScheduleEvent> all() {
+        return List.of(snapshot.byStart);
+    }
+
+    /**
+     * 내용에 keyword를 포함한 일정을 시작일 순으로 반환합니다.
+     */
+    public List<ScheduleEvent> containing(String keyword) {
+        return List.of(snapshot.containing(keyword).byStart);
+    }
+
+    /**
+     * 내용에 keyword를 포함하면서 [start, end]와 겹치지 않는 일정 중 가장 가까운 하나를 반환합니다.
+     * end 뒤에 시작하는 일정 중 가장 먼저 시작하는 일정을 우선하고, 없으면 start 전에 끝난 일정 중 가장 늦게 끝난 일정입니다.
+     */
+    public Optional<ScheduleEvent> nextOutside(String keyword, LocalDate start, LocalDate end) {
+        Postings postings = snapshot.containing(keyword);
+
+        int after = firstAfter(postings.byStart, ScheduleEvent::start, end);
+        if (after < postings.byStart.length) return Optional.of(postings.byStart[after]);
+
+        int before = firstAfter(postings.byEnd, ScheduleEvent::end, start.minusDays(1));
+        return before > 0 ? Optional.of(postings.byEnd[before - 1]) : Optional.empty();
+    }
+
+    // sorted에서 key(event)가 date보다 뒤인 첫 위치
+    private static int firstAfter(ScheduleEvent[] sorted, Function<ScheduleEvent, LocalDate> key, LocalDate date) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (key.apply(sorted[mid]).isAfter(date)) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    /**
+     * 키워드를 포함한 일정 목록입니다. byStart는 (시작일, id) 순, byEnd는 (종료일, 시작일, id) 순입니다.
+     */
+    private record Postings(ScheduleEvent[] byStart, ScheduleEvent[] byEnd) {
+
+        private static final Comparator<ScheduleEvent> BY_END = Comparator.comparing(ScheduleEvent::end)
+                .thenComparing(ScheduleEvent::start)
+                .thenComparingLong(ScheduleEvent::id);
+
+        private static Postings of(ScheduleEvent[] byStart) {
+            ScheduleEvent[] byEnd = byStart.clone();
+            Arrays.sort(byEnd, BY_END);
+            return new Postings(byStart, byEnd);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final ScheduleEvent[] byStart;
+        // maxEnd[i]: byStart[i]를 루트로 하는 (구간 중점 분할) 하위 트리의 최대 종료일
+        private final LocalDate[] maxEnd;
+        private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+
+        private Snapshot(List<ScheduleEvent> events) {
+            this.byStart = events.stream()
+                    .sorted(Comparator.comparing(ScheduleEvent::start).thenComparingLong(ScheduleEvent::id))
+                    .toArray(ScheduleEvent[]::new);
+            this.maxEnd = new LocalDate[byStart.length];
+            build(0, byStart.length);
+        }
+
+        private LocalDate build(int lo, int hi) {
+            if (lo >= hi) return null;
+            int mid = (lo + hi) >>> 1;
+            LocalDate max = byStart[mid].end();
+            LocalDate left = build(lo, mid);
+            LocalDate right = build(mid + 1, hi);
+            if (left != null && left.isAfter(max)) max = left;
+            if (right != null && right.isAfter(max)) max = right;
+            maxEnd[mid] = max;
+            return max;
+        }
+
+        private List<ScheduleEvent> overlapping(LocalDate start, LocalDate end) {
+            List<ScheduleEvent> result = new ArrayList<>();
+            collect(0, byStart.length, start, end, result);
+            return result;
+        }
+
+        // 중위 순회로 수집하므로 결과는 시작일 순
+        private void collect(int lo, int hi, LocalDate start, LocalDate end, List<ScheduleEvent> out) {
+            if (lo >= hi) return;
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid].isBefore(start)) return;
+
+            collect(lo, mid, start, end, out);
+            ScheduleEvent event = byStart[mid];
+            if (event.start().isAfter(end)) return;
+            if (!event.end().isBefore(start)) out.add(event);
+            collect(mid + 1, hi, start, end, out);
+        }
+
+        // 키워드마다 처음 한 번만 전체 일정을 훑고, 이후 조회는 기억해 둔 목록을 이진 탐색
+        private Postings containing(String keyword) {
+            Postings cached = postings.get(keyword);
+            if (cached != null) return cached;
+
+            Postings matched = Postings.of(Arrays.stream(byStart)
+                    .filter(event -> event.content().contains(keyword))
+                    .toArray(ScheduleEvent[]::new));
+            if (postings.size() < MAX_KEYWORD_POSTINGS) postings.put(keyword, matched);
+            return matched;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class AcademicScheduleService extends AbstractSearchService<AcademicSched
     }
 
     @Override
-    protected List<AcademicSchedule> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByDateContainingAndContentContaining(date, keyword);
+    protected List<AcademicSchedule> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findOverlappingAndContentContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<AcademicSchedule> findByDate(String date) {
-        return repository.findByDateContaining(date);
+    protected List<AcademicSchedule> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findOverlapping(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class AcademicScheduleService extends AbstractSearchService<AcademicSched
         return repository.findByContentContaining(keyword);
     }
 
+    @Override
+    protected List<AcademicSchedule> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchOverlappingAndContentFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<AcademicSchedule> findByKeywordFullText(String keyword) {
+        return repository.searchByContentFullText(keyword);
+    }
+
     @Override
     protected List<AcademicSchedule> findAll() {
         return repository.findAll();
@@ -0,0 +1,25 @@
+package org.example.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.chatbot.dto.GptResponseDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 요청 스레드에서 ChatService 흐름을 끝까지 수행합니다. (기본 모드)
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class BlockingChatHandler implements ChatHandler {
+
+    private final ChatService chatService;
+
+    @Override
+    public CompletionStage<GptResponseDto> handle(String userId, String userInput, String continuationToken) {
+        return CompletableFuture.completedFuture(chatService.handleUserInput(userId, userInput, continuationToken));
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.chatbot.service;
+
+import org.example.chatbot.dto.GptResponseDto;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * POST /api/chat/intent 처리 방식입니다.
+ * 기본은 요청 스레드에서 처리하는 BlockingChatHandler이고, reactive 프로필에서는 ReactiveChatHandler를 사용합니다.
+ */
+public interface ChatHandler {
+
+    /**
+     * @param continuationToken 이전 응답의 공지사항 "더 보기" 토큰, 없으면 null (세션의 커서 사용)
+     */
+    CompletionStage<GptResponseDto> handle(String userId, String userInput, String continuationToken);
+}
@@ -0,0 +1,378 @@
+package org.example.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.CrossBoardNoticeSearchDto;
+import org.example.chatbot.dto.GptResponseDto;
+import org.example.chatbot.dto.IntentResultDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.example.chatbot.util.DateTimeExtractor.extractDateRange;
+import static org.example.chatbot.util.DateTimeExtractor.extractMealTime;
+
+/**
+ * 사용자 질문을 intent별 테이블 조회 또는 GPT fallback 답변으로 처리하는 챗봇 흐름입니다.
+ * 일반 응답(POST /api/chat/intent)과 스트리밍 응답(POST /api/chat/intent/stream)이 같은 흐름을 사용합니다.
+ * GPT intent 분류와 Redis 세션 조회는 서로 의존하지 않으므로 chatPipelineExecutor에서 동시에 시작하고,
+ * 요청 데드라인(chatbot.chat.deadline-ms) 안에서 결과를 기다립니다.
+ * 식단은 메모리 스냅샷(MealSnapshotStore), 학사일정은 메모리 인덱스(AcademicScheduleIndex)에서 바로 답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatService {
+
+    private final GptService gptService;
+    private final TableQueryService tableQueryService;
+    private final CrossBoardNoticeSearchService crossBoardNoticeSearchService;
+    private final ChatSessionService chatSessionService;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final ExecutorService chatPipelineExecutor;
+
+    @Value("${chatbot.chat.deadline-ms:25000}")
+    private long deadlineMs;
+
+    private static final Set<String> MEAL_INTENTS = Set.of("학생식당", "교직원식당", "기숙사식당");
+    private static final Set<String> NOTICE_INTENTS = Set.of("학사공지", "장학공지", "한경공지");
+    private static final String SCHEDULE_INTENT = "학사일정";
+    private static final String CROSS_BOARD_INTENT = "통합공지";
+    private static final Set<String> MORE_REQUESTS = Set.of("더보기", "더보여줘", "더보여주세요");
+
+    /**
+     * 처리 결과입니다. 바로 답할 수 있으면 response, GPT fallback 답변이 필요하면 fallbackInput만 채워집니다.
+     * sessionToSave가 있으면 호출하는 쪽에서 대화 세션으로 저장해야 합니다.
+     */
+    public record ChatReply(GptResponseDto response, String fallbackInput, ChatSessionService.Session sessionToSave) {
+
+        static ChatReply of(GptResponseDto response) {
+            return new ChatReply(response, null, null);
+        }
+
+        static ChatReply fallback(String userInput) {
+            return new ChatReply(null, userInput, null);
+        }
+
+        // 이전 대화 상태는 유지하고 공지사항 커서만 비움 (커서가 없으면 저장하지 않음)
+        ChatReply clearingNoticeCursor(ChatSessionService.Session session) {
+            if (session.noticeCursor() == null) return this;
+            return new ChatReply(response, fallbackInput, new ChatSessionService.Session(session.lastIntent(),
+                    session.lastDate(), session.lastKeyword(), session.lastMealTime(), null));
+        }
+
+        ChatReply saving(String intent, LocalDate date, String keyword, String mealTime) {
+            return saving(intent, date, keyword, mealTime, null);
+        }
+
+        ChatReply saving(String intent, LocalDate date, String keyword, String mealTime, NoticeCursor noticeCursor) {
+            return new ChatReply(response, fallbackInput, new ChatSessionService.Session(intent, date.toString(),
+                    keyword, mealTime, noticeCursor != null ? noticeCursor.encode() : null));
+        }
+
+        public boolean needsFallback() {
+            return fallbackInput != null;
+        }
+    }
+
+    public GptResponseDto getSessionSummary(String userId) {
+        String lastIntent = chatSessionService.getSession(userId).lastIntent();
+
+        if (lastIntent == null) {
+            return new GptResponseDto(
+                    null,
+                    "안녕하세요! 한경국립대학교 챗봇입니다. \n학사공지, 학사일정, 식단 등을 편하게 물어보세요. 예: '7월 학사일정 알려줘', '오늘 기숙사식당 메뉴 알려줘' 등"
+            );
+        }
+
+        String summary = String.format("이전에 '%s' 관련 질문을 하셨습니다. 이어서 질문해 보세요.", lastIntent);
+        return new GptResponseDto(lastIntent, summary);
+    }
+
+    /**
+     * 질문을 처리하고, fallback이 필요하면 GPT 답변 생성이 끝날 때까지 기다려 반환합니다.
+     */
+    public GptResponseDto handleUserInput(String userId, String userInput, String continuationToken) {
+        ChatReply reply = resolve(userId, userInput, continuationToken);
+        if (reply.needsFallback()) {
+            return new GptResponseDto("없음", gptService.generateFallbackAnswer(reply.fallbackInput()));
+        }
+        return reply.response();
+    }
+
+    /**
+     * intent 분류와 테이블 조회까지만 수행합니다. GPT fallback 답변 생성은 호출하는 쪽이 맡습니다. (스트리밍용)
+     *
+     * @param continuationToken 이전 응답의 공지사항 "더 보기" 토큰, 없으면 null (세션의 커서 사용)
+     */
+    public ChatReply resolve(String userId, String userInput, String continuationToken) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        // "더 보기"는 세션의 커서로 답하므로 intent 분류가 필요 없음
+        CompletableFuture<IntentResultDto> intentFuture = isMoreRequest(userInput)
+                ? CompletableFuture.completedFuture(new IntentResultDto("없음", null, null))
+                : CompletableFuture.supplyAsync(() -> gptService.classifyIntent(userInput), chatPipelineExecutor);
+        CompletableFuture<ChatSessionService.Session> sessionFuture =
+                CompletableFuture.supplyAsync(() -> chatSessionService.getSession(userId), chatPipelineExecutor);
+
+        try {
+            ChatReply reply = decide(userInput, continuationToken,
+                    () -> await(intentFuture, deadline, "intent 분류",
+                            () -> localIntentClassifier.classifyDegraded(userInput)),
+                    () -> await(sessionFuture, deadline, "세션 조회", ChatSessionService.Session::empty));
+            ChatSessionService.Session session = reply.sessionToSave();
+            if (session != null) {
+                chatSessionService.saveSession(userId, session.lastIntent(), session.lastDate(),
+                        session.lastKeyword(), session.lastMealTime(), session.noticeCursor());
+            }
+            return reply;
+        } finally {
+            sessionFuture.cancel(true);
+        }
+    }
+
+    /**
+     * 이미 구한 분류 결과로 답변을 결정합니다. 테이블 조회(JDBC)를 포함하므로 블로킹 호출입니다.
+     * 세션은 필요할 때만 session에서 가져오고, 저장은 하지 않고 ChatReply.sessionToSave로 돌려줍니다. (reactive 모드용)
+     */
+    public ChatReply decide(String userInput, String continuationToken,
+                            IntentResultDto result, Supplier<ChatSessionService.Session> session) {
+        return decide(userInput, continuationToken, () -> result, session);
+    }
+
+    // 날짜 추출은 분류를 기다리는 동안 먼저 수행하고, 세션은 intent가 없을 때만 기다림
+    private ChatReply decide(String userInput, String continuationToken, Supplier<IntentResultDto> intentResult,
+                             Supplier<ChatSessionService.Session> sessionResult) {
+        if (isMoreRequest(userInput)) {
+            return nextNoticePage(continuationToken, sessionResult.get());
+        }
+
+        LocalDate[] dateRange = requestedDateRange(userInput);
+
+        IntentResultDto result = intentResult.get();
+        String intent = result.getIntent();
+        String keyword = result.getKeyword();
+        String answer = result.getAnswer();
+
+        LocalDate startDate = dateRange[0];
+        LocalDate endDate = dateRange[1];
+
+        boolean dateFilterApplied = !(startDate.equals(endDate) && startDate.equals(LocalDate.now()));
+        if (containsDateKeyword(userInput)) dateFilterApplied = true;
+
+        String mealTime = extractMealTime(userInput);
+        if ("학생식당".equals(intent) && "점심".equals(mealTime)) mealTime = null;
+
+        if ((mealTime == null || mealTime.isBlank()) && "학생식당".equals(intent)) {
+            if (userInput.contains("건강한끼")) {
+                mealTime = "건강한끼";
+            } else if (userInput.contains("맛난한끼")) {
+                mealTime = "맛난한끼";
+            }
+        }
+
+        if ("식당 미지정".equalsIgnoreCase(intent)) {
+            return ChatReply.of(new GptResponseDto(
+                    "식당 미지정", "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요."
+            ));
+        }
+
+        if ((intent == null || intent.trim().isEmpty()) && answer != null) {
+            return ChatReply.of(new GptResponseDto(null, answer));
+        }
+
+        String normalizedIntent = intent != null ? intent.trim() : "";
+
+        // 공지 종류 없이 "공지" + 키워드로 물으면 되묻지 않고 세 게시판을 함께 검색
+        if ("없음".equalsIgnoreCase(normalizedIntent) && userInput.contains("공지")
+                && keyword != null && !keyword.isBlank()) {
+            CrossBoardNoticeSearchDto found = crossBoardNoticeSearchService.search(keyword.strip(),
+                    dateFilterApplied ? startDate : null, dateFilterApplied ? endDate : null, null);
+            // 이전 공지 질문의 커서가 남아 있으면 다음 "더 보기"가 관계없는 목록을 이어 보여주므로 비움
+            return ChatReply.of(new GptResponseDto(CROSS_BOARD_INTENT, crossBoardNoticeSearchService.toAnswer(found)))
+                    .clearingNoticeCursor(sessionResult.get());
+        }
+
+        if (normalizedIntent.isEmpty() || "없음".equalsIgnoreCase(normalizedIntent)) {
+            ChatSessionService.Session session = sessionResult.get();
+            intent = session.lastIntent();
+            String savedDate = session.lastDate();
+            keyword = session.lastKeyword();
+            if (mealTime == null) mealTime = session.lastMealTime();
+
+            if (savedDate != null) startDate = LocalDate.parse(savedDate);
+            endDate = startDate;
+            dateFilterApplied = !(startDate.equals(endDate) && startDate.equals(LocalDate.now()));
+
+            if (intent == null) {
+                return ChatReply.fallback(userInput);
+            }
+        }
+
+        normalizedIntent = intent.trim();
+
+        if ("식당 미지정".equalsIgnoreCase(normalizedIntent) ||
+                (intent != null && intent.contains("식당") && !MEAL_INTENTS.contains(intent))) {
+            return ChatReply.of(new GptResponseDto(
+                    "식당 미지정", "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요."
+            ));
+        }
+
+        if ("없음".equalsIgnoreCase(normalizedIntent)) {
+            if (userInput.contains("공지")) {
+                return ChatReply.of(new GptResponseDto(
+                        "없음", "학사공지, 장학공지, 한경공지 중에서 어떤 공지사항이 궁금하신가요?"
+                ));
+            }
+            return ChatReply.fallback(userInput);
+        }
+
+        if (MEAL_INTENTS.contains(intent)) {
+            if (!dateFilterApplied) {
+                return ChatReply.of(new GptResponseDto(
+                        intent, "어느 날짜의 메뉴가 궁금하신가요? 예: 오늘, 내일, 7월 8일 등으로 입력해 주세요."
+                ));
+            }
+            String mealAnswer = tableQueryService.filterMealByConditions(
+                    intent, keyword, mealTime, startDate, endDate, dateFilterApplied
+            );
+            return ChatReply.of(new GptResponseDto(intent, mealAnswer)).saving(intent, startDate, keyword, mealTime);
+        }
+
+        if (NOTICE_INTENTS.contains(intent) || SCHEDULE_INTENT.equals(intent)) {
+            if ((keyword == null || keyword.isBlank()) && !dateFilterApplied) {
+                String reask = switch (intent) {
+                    case "학사공지" -> "학사공지에서 어떤 내용을 찾으시나요? 예: 휴학, 등록금 등 키워드를 입력해 주세요.";
+                    case "장학공지" -> "장학공지에서 어떤 내용을 찾으시나요? 예: 국가장학금, 교내장학금 등 키워드를 입력해 주세요.";
+                    case "한경공지" -> "한경공지에서 어떤 내용을 찾으시나요? 예: 행사, 모집 공고 등 키워드를 입력해 주세요.";
+                    case "학사일정" -> "어떤 학사일정을 찾으시나요? 예: 수강신청, 휴학 등 키워드를 입력해 주세요.";
+                    default -> "조금 더 구체적으로 어떤 정보를 찾으시는지 말씀해 주세요.";
+                };
+                return ChatReply.of(new GptResponseDto(intent, reask));
+            }
+        }
+
+        GptResponseDto response;
+        NoticeCursor noticeCursor = null;
+
+        if (NOTICE_INTENTS.contains(intent)) {
+            TableQueryService.NoticePage page = tableQueryService.findNoticePage(
+                    intent, keyword, startDate, endDate, dateFilterApplied, null);
+            response = noticeResponse(intent, page);
+            noticeCursor = page.next();
+        } else if (SCHEDULE_INTENT.equals(intent)) {
+            keyword = normalizeKeyword(keyword);
+            String scheduleAnswer;
+
+            if (keyword != null && !keyword.isBlank()) {
+                scheduleAnswer = tableQueryService.filterAcademicScheduleByConditions(
+                        keyword, null, null, false);
+
+                if (scheduleAnswer.isBlank()) {
+                    String otherDate = tableQueryService.findKeywordInOtherDates(keyword, startDate, endDate);
+                    if (!otherDate.isBlank()) {
+                        scheduleAnswer = String.format(
+                                "요청하신 기간에는 '%s' 일정이 없지만, %s에 같은 일정이 있습니다.", keyword, otherDate);
+                    } else {
+                        scheduleAnswer = String.format(
+                                "'%s' 키워드에 해당하는 학사일정을 찾을 수 없습니다.", keyword);
+                    }
+                }
+            } else if (dateFilterApplied) {
+                scheduleAnswer = tableQueryService.filterAcademicScheduleByConditions(
+                        null, startDate, endDate, dateFilterApplied);
+                if (scheduleAnswer.isBlank()) {
+                    scheduleAnswer = "요청하신 기간에는 학사일정이 없습니다.";
+                }
+            } else {
+                scheduleAnswer = "어떤 학사일정을 찾으시나요? 예: 수강신청, 휴학 등 키워드를 입력해 주세요.";
+            }
+
+            response = new GptResponseDto(intent, scheduleAnswer);
+        } else {
+            return ChatReply.fallback(userInput).saving(intent, startDate, keyword, mealTime);
+        }
+
+        return ChatReply.of(response).saving(intent, startDate, keyword, mealTime, noticeCursor);
+    }
+
+    /**
+     * "더 보기" 요청인지 여부입니다. 요청의 continuationToken, 없으면 세션에 남은 공지사항 커서로 다음 페이지를 답합니다.
+     */
+    public boolean isMoreRequest(String userInput) {
+        if (userInput == null) return false;
+        String compact = userInput.replaceAll("\\s+", "");
+        return MORE_REQUESTS.contains(compact);
+    }
+
+    // 토큰(없거나 잘못되면 세션)의 커서 다음부터 같은 조건으로 공지사항을 이어서 조회 (keyset)
+    private ChatReply nextNoticePage(String continuationToken, ChatSessionService.Session session) {
+        NoticeCursor cursor = NoticeCursor.decode(continuationToken);
+        if (cursor == null) cursor = NoticeCursor.decode(session.noticeCursor());
+        if (cursor == null || !NOTICE_INTENTS.contains(cursor.intent())) {
+            return ChatReply.of(new GptResponseDto(session.lastIntent(),
+                    "더 보여드릴 내용이 없어요. 궁금한 공지사항을 다시 질문해 주세요."));
+        }
+
+        TableQueryService.NoticePage page = tableQueryService.findNoticePage(cursor.intent(), cursor.keyword(),
+                cursor.startDate(), cursor.endDate(), cursor.dateFilterApplied(), cursor);
+        return ChatReply.of(noticeResponse(cursor.intent(), page))
+                .saving(cursor.intent(), cursor.startDate(), cursor.keyword(), null, page.next());
+    }
+
+    private GptResponseDto noticeResponse(String intent, TableQueryService.NoticePage page) {
+        GptResponseDto response = new GptResponseDto(intent, page.answer());
+        if (page.next() != null) response.setContinuationToken(page.next().encode());
+        return response;
+    }
+
+    // 질문의 날짜 범위, 날짜 표현이 없으면 오늘 하루
+    private LocalDate[] requestedDateRange(String userInput) {
+        LocalDate[] dateRange = extractDateRange(userInput);
+        if (dateRange[0] == null || dateRange[1] == null) {
+            LocalDate today = LocalDate.now();
+            return new LocalDate[]{today, today};
+        }
+        return dateRange;
+    }
+
+    // 데드라인까지 결과를 기다리고, 시간을 넘기면 취소 후 대체 결과를 사용
+    private <T> T await(CompletableFuture<T> future, long deadline, String task, Supplier<T> onTimeout) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("⏱️ {} 데드라인 초과, 대체 결과를 사용합니다.", task);
+            return onTimeout.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return onTimeout.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean containsDateKeyword(String userInput) {
+        return userInput.contains("오늘") ||
+                userInput.contains("어제") ||
+                userInput.contains("이번주") ||
+                userInput.contains("이번 달") ||
+                userInput.contains("이번달") ||
+                userInput.contains("이번 주") ||
+                userInput.contains("내일") ||
+                userInput.contains("모레");
+    }
+
+    private String normalizeKeyword(String keyword) {
+        if (keyword == null) return null;
+        if (keyword.contains("졸업")) return "학위수여";
+        if (keyword.contains("학위수여")) return "졸업";
+        return keyword;
+    }
+}
@@ -1,33 +1,62 @@
 package org.example.chatbot.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ChatSessionService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    // reactive 프로필에서만 존재
+    private final ObjectProvider<ReactiveRedisTemplate<String, Object>> reactiveRedisTemplate;
     private static final long TTL_MINUTES = 30;
 
     private static final String FIELD_INTENT = "lastIntent";
     private static final String FIELD_DATE = "lastDate";
     private static final String FIELD_KEYWORD = "lastKeyword";
     private static final String FIELD_MEAL_TIME = "lastMealTime";
+    private static final String FIELD_NOTICE_CURSOR = "noticeCursor";
 
-    // 전체 저장용 (intent, date, keyword, mealTime)
-    public void saveSession(String userId, String intent, String date, String keyword, String mealTime) {
+    /**
+     * 이전 대화 상태입니다. 세션이 없으면 모든 필드가 null입니다.
+     * noticeCursor는 마지막 공지사항 답변의 "더 보기" 토큰(NoticeCursor)입니다.
+     */
+    public record Session(String lastIntent, String lastDate, String lastKeyword, String lastMealTime,
+                          String noticeCursor) {
+
+        public static Session empty() {
+            return new Session(null, null, null, null, null);
+        }
+    }
+
+    // 전체 저장용 (intent, date, keyword, mealTime, noticeCursor)
+    public void saveSession(String userId, String intent, String date, String keyword, String mealTime,
+                            String noticeCursor) {
         String key = buildKey(userId);
         redisTemplate.opsForHash().put(key, FIELD_INTENT, intent);
         redisTemplate.opsForHash().put(key, FIELD_DATE, date);
         redisTemplate.opsForHash().put(key, FIELD_KEYWORD, keyword);
         redisTemplate.opsForHash().put(key, FIELD_MEAL_TIME, mealTime);
+        redisTemplate.opsForHash().put(key, FIELD_NOTICE_CURSOR, noticeCursor);
         redisTemplate.expire(key, Duration.ofMinutes(TTL_MINUTES));
     }
 
+    // "더 보기" 토큰 없이 저장하는 경우를 위한 오버로드 버전
+    public void saveSession(String userId, String intent, String date, String keyword, String mealTime) {
+        saveSession(userId, intent, date, keyword, mealTime, null);
+    }
+
     // mealTime 없이 저장하는 경우를 위한 오버로드 버전
     public void saveSession(String userId, String intent, String date, String keyword) {
         saveSession(userId, intent, date, keyword, null);
@@ -49,11 +78,58 @@ public class ChatSessionService {
         return getField(userId, FIELD_MEAL_TIME);
     }
 
-    private String getField(String userId, String field) {
-        Object value = redisTemplate.opsForHash().get(buildKey(userId), field);
+    // 세션 필드를 한 번의 HMGET으로 조회
+    public Session getSession(String userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(buildKey(userId),
+                List.<Object>of(FIELD_INTENT, FIELD_DATE, FIELD_KEYWORD, FIELD_MEAL_TIME, FIELD_NOTICE_CURSOR));
+        return new Session(toText(values.get(0)), toText(values.get(1)), toText(values.get(2)), toText(values.get(3)),
+                toText(values.get(4)));
+    }
+
+    // getSession의 reactive 버전
+    public Mono<Session> getSessionReactive(String userId) {
+        return reactiveRedisTemplate.getObject().<String, Object>opsForHash()
+                .multiGet(buildKey(userId),
+                        List.of(FIELD_INTENT, FIELD_DATE, FIELD_KEYWORD, FIELD_MEAL_TIME, FIELD_NOTICE_CURSOR))
+                .map(values -> new Session(toText(values.get(0)), toText(values.get(1)),
+                        toText(values.get(2)), toText(values.get(3)), toText(values.get(4))))
+                .defaultIfEmpty(Session.empty());
+    }
+
+    // saveSession의 reactive 버전 (null 필드는 삭제해 조회 결과가 블로킹 저장과 같도록 함)
+    public Mono<Void> saveSessionReactive(String userId, Session session) {
+        ReactiveRedisTemplate<String, Object> template = reactiveRedisTemplate.getObject();
+        String key = buildKey(userId);
+        Map<String, Object> values = new HashMap<>();
+        List<Object> nullFields = new ArrayList<>();
+        putOrCollect(values, nullFields, FIELD_INTENT, session.lastIntent());
+        putOrCollect(values, nullFields, FIELD_DATE, session.lastDate());
+        putOrCollect(values, nullFields, FIELD_KEYWORD, session.lastKeyword());
+        putOrCollect(values, nullFields, FIELD_MEAL_TIME, session.lastMealTime());
+        putOrCollect(values, nullFields, FIELD_NOTICE_CURSOR, session.noticeCursor());
+
+        Mono<?> put = values.isEmpty() ? Mono.empty() : template.opsForHash().putAll(key, values);
+        Mono<?> remove = nullFields.isEmpty() ? Mono.empty()
+                : template.opsForHash().remove(key, nullFields.toArray());
+        return put.then(remove).then(template.expire(key, Duration.ofMinutes(TTL_MINUTES))).then();
+    }
+
+    private void putOrCollect(Map<String, Object> values, List<Object> nullFields, String field, String value) {
+        if (value != null) {
+            values.put(field, value);
+        } else {
+            nullFields.add(field);
+        }
+    }
+
+    private String toText(Object value) {
         return value != null ? value.toString() : null;
     }
 
+    private String getField(String userId, String field) {
+        return toText(redisTemplate.opsForHash().get(buildKey(userId), field));
+    }
+
     private String buildKey(String userId) {
         return "chat:session:" + userId;
     }
@@ -0,0 +1,139 @@
+package org.example.chatbot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.CrossBoardNoticeSearchDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 학사/장학/한경 공지를 한 번에 검색합니다. (공지 종류 없이 "공지" + 키워드로 질문한 경우)
+ * 세 게시판을 noticeSearchExecutor에서 동시에 조회하고 하나의 데드라인 안에서 기다린 뒤,
+ * 게시판별 최신순 목록을 k-way 병합(각 목록의 맨 앞을 담은 힙)해 최신순 상위 limit건으로 합칩니다.
+ * 데드라인 안에 끝나지 않았거나 executor가 가득 차 실행하지 못한 게시판은 제외하고 나머지 결과로 답합니다.
+ */
+@Slf4j
+@Service
+public class CrossBoardNoticeSearchService {
+
+    // 한 번에 요청할 수 있는 최대 건수
+    public static final int MAX_LIMIT = 50;
+
+    private static final List<String> BOARDS =
+            List.of(NoticeTitleIndex.ACADEMIC, NoticeTitleIndex.SCHOLARSHIP, NoticeTitleIndex.HANKYONG);
+
+    private final TableQueryService tableQueryService;
+    private final ExecutorService noticeSearchExecutor;
+    private final long deadlineMs;
+    private final int defaultLimit;
+
+    public CrossBoardNoticeSearchService(TableQueryService tableQueryService,
+                                         ExecutorService noticeSearchExecutor,
+                                         @Value("${chatbot.notice.cross-board.deadline-ms:3000}") long deadlineMs,
+                                         @Value("${chatbot.notice.cross-board.limit:10}") int defaultLimit) {
+        this.tableQueryService = tableQueryService;
+        this.noticeSearchExecutor = noticeSearchExecutor;
+        this.deadlineMs = deadlineMs;
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * 세 게시판에서 제목에 keyword를 포함한 공지를 최신순으로 최대 limit건 찾습니다.
+     *
+     * @param startDate 시작 날짜 (포함, null이면 제한 없음)
+     * @param endDate   종료 날짜 (포함, null이면 제한 없음)
+     * @param limit     최대 건수 (null이면 chatbot.notice.cross-board.limit, MAX_LIMIT를 넘으면 MAX_LIMIT)
+     */
+    public CrossBoardNoticeSearchDto search(String keyword, LocalDate startDate, LocalDate endDate, Integer limit) {
+        int size = Math.min(limit != null && limit > 0 ? limit : defaultLimit, MAX_LIMIT);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        // 게시판마다 최신 size건이면 병합 결과 상위 size건을 만들기에 충분함
+        Map<String, Future<List<NoticeTitleIndex.Notice>>> futures = new LinkedHashMap<>();
+        List<String> timedOut = new ArrayList<>();
+        for (String board : BOARDS) {
+            try {
+                futures.put(board, noticeSearchExecutor.submit(
+                        () -> tableQueryService.findNewestNotices(board, keyword, startDate, endDate, size)));
+            } catch (RejectedExecutionException e) {
+                timedOut.add(board);
+                log.warn("❗ [{}] 통합 공지 검색 처리 한도 초과, 결과에서 제외합니다.", board);
+            }
+        }
+
+        Map<String, List<NoticeTitleIndex.Notice>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<List<NoticeTitleIndex.Notice>>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(),
+                        entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                timedOut.add(entry.getKey());
+                log.warn("⏱️ [{}] 통합 공지 검색 데드라인 초과, 결과에서 제외합니다.", entry.getKey());
+            } catch (InterruptedException e) {
+                futures.values().forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("통합 공지 검색이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                timedOut.add(entry.getKey());
+                log.warn("❗ [{}] 통합 공지 검색 실패, 결과에서 제외합니다: {}", entry.getKey(), e.getCause().getMessage());
+            }
+        }
+
+        return new CrossBoardNoticeSearchDto(keyword, merge(results, size), timedOut);
+    }
+
+    /**
+     * 통합 검색 결과를 챗봇 답변 문장으로 만듭니다.
+     */
+    public String toAnswer(CrossBoardNoticeSearchDto result) {
+        StringBuilder sb = new StringBuilder();
+        if (result.getNotices().isEmpty()) {
+            sb.append(String.format("학사공지, 장학공지, 한경공지에서 '%s' 키워드를 포함한 공지사항을 찾지 못했어요.",
+                    result.getKeyword()));
+        } else {
+            sb.append(String.format("학사공지, 장학공지, 한경공지에서 '%s' 키워드로 찾은 최근 공지사항이에요:\n\n",
+                    result.getKeyword()));
+            StringJoiner lines = new StringJoiner("\n\n");
+            for (CrossBoardNoticeSearchDto.Item item : result.getNotices()) {
+                lines.add(String.format("[%s %s] %s", item.getBoard(), item.getNoticeDate(), item.getTitle()));
+            }
+            sb.append(lines);
+        }
+        if (!result.getTimedOutBoards().isEmpty()) {
+            sb.append(String.format("\n\n(%s은(는) 응답이 늦어 결과에서 제외했어요.)",
+                    String.join(", ", result.getTimedOutBoards())));
+        }
+        return sb.toString();
+    }
+
+    // 게시판별 최신순 목록의 맨 앞끼리 비교하는 k-way 병합
+    private List<CrossBoardNoticeSearchDto.Item> merge(Map<String, List<NoticeTitleIndex.Notice>> results, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(
+                Comparator.comparing(Head::notice, NoticeTitleIndex.NEWEST_FIRST));
+        results.forEach((board, notices) -> {
+            if (!notices.isEmpty()) heads.add(new Head(board, notices, 0));
+        });
+
+        List<CrossBoardNoticeSearchDto.Item> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head head = heads.poll();
+            NoticeTitleIndex.Notice notice = head.notice();
+            merged.add(new CrossBoardNoticeSearchDto.Item(head.board(), notice.id(), notice.noticeDate(), notice.title()));
+            if (head.index() + 1 < head.notices().size()) {
+                heads.add(new Head(head.board(), head.notices(), head.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(String board, List<NoticeTitleIndex.Notice> notices, int index) {
+
+        NoticeTitleIndex.Notice notice() {
+            return notices.get(index);
+        }
+    }
+}
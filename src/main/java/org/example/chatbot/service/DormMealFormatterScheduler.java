@@ -1,46 +1,281 @@
 package org.example.chatbot.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.example.chatbot.domain.DormMeal;
+import org.example.chatbot.domain.FormattedMenuMemo;
+import org.example.chatbot.dto.DormMealFormatReportDto;
 import org.example.chatbot.repository.DormMealRepository;
+import org.example.chatbot.repository.FormattedMenuMemoRepository;
+import org.example.chatbot.util.DormMenuParser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DormMealFormatterScheduler {
 
     private final DormMealRepository dormMealRepository;
+    private final FormattedMenuMemoRepository formattedMenuMemoRepository;
     private final GptService gptService;
+    private final MealSnapshotStore mealSnapshotStore;
+
+    private final int batchSize;
+    private final int parallelism;
+    private final int chunkSize;
+    private final double localConfidenceThreshold;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter formattedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public DormMealFormatterScheduler(DormMealRepository dormMealRepository,
+                                      FormattedMenuMemoRepository formattedMenuMemoRepository,
+                                      GptService gptService,
+                                      MealSnapshotStore mealSnapshotStore,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${chatbot.dorm-meal-format.batch-size:5}") int batchSize,
+                                      @Value("${chatbot.dorm-meal-format.parallelism:4}") int parallelism,
+                                      @Value("${chatbot.dorm-meal-format.chunk-size:20}") int chunkSize,
+                                      @Value("${chatbot.dorm-meal-format.local-confidence:0.8}") double localConfidenceThreshold) {
+        this.dormMealRepository = dormMealRepository;
+        this.formattedMenuMemoRepository = formattedMenuMemoRepository;
+        this.gptService = gptService;
+        this.mealSnapshotStore = mealSnapshotStore;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.localConfidenceThreshold = localConfidenceThreshold;
+
+        this.formattedCounter = Counter.builder("chatbot.dorm-meal.format")
+                .description("기숙사 식단 포맷팅 결과")
+                .tag("result", "formatted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chatbot.dorm-meal.format")
+                .description("기숙사 식단 포맷팅 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("chatbot.dorm-meal.format.run")
+                .description("기숙사 식단 포맷팅 작업 1회 실행 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 매일 새벽 3시에 dorm_meals의 메뉴 원본을 GPT로 포맷팅해 formatted_menu에 저장합니다.
      */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
-    public void formatDormMeals() {
-        log.info("✅ DormMeal 포맷팅 스케줄러 실행 시작");
+    public void scheduledFormatDormMeals() {
+        formatDormMeals();
+    }
 
-        // formatted_menu가 NULL이거나 menu와 내용이 불일치한 데이터만 가져오기
-        List<DormMeal> mealsToFormat = dormMealRepository.findDormMealsToFormat();
-        log.info("📌 포맷팅 대상 식단 수: {}", mealsToFormat.size());
+    /**
+     * 포맷팅 대상 식단을 batchSize개씩 묶어 한 번의 GPT 요청으로 보내고, 최대 parallelism개의 배치를 동시에 처리합니다.
+     * 결과는 긴 트랜잭션 없이 chunkSize건 단위로 저장(커밋)합니다.
+     * 원본 해시로 이미 포맷팅한 결과가 메모에 있으면 GPT를 호출하지 않고 재사용하고,
+     * 규칙 기반 파서(DormMenuParser)의 신뢰도가 충분한 식단도 GPT 없이 처리합니다.
+     *
+     * @return 실행 결과 (이미 실행 중이면 skipped)
+     */
+    public DormMealFormatReportDto formatDormMeals() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ DormMeal 포맷팅 작업이 이미 실행 중이라 건너뜁니다.");
+            return DormMealFormatReportDto.skippedRun();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            log.info("✅ DormMeal 포맷팅 스케줄러 실행 시작");
 
-        for (DormMeal meal : mealsToFormat) {
+            List<DormMeal> mealsToFormat = dormMealRepository.findDormMealsToFormat();
+            log.info("📌 포맷팅 대상 식단 수: {}", mealsToFormat.size());
+
+            DormMealFormatReportDto report = formatInBatches(mealsToFormat, startedAt);
+            log.info("✅ DormMeal 포맷팅 스케줄러 실행 종료: {}", report.summary());
+
+            // 포맷팅 결과를 다음 주기까지 기다리지 않고 식단 스냅샷에 바로 반영
+            if (report.getFormatted() > 0) mealSnapshotStore.refreshIfChanged();
+            return report;
+        } finally {
+            runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            running.set(false);
+        }
+    }
+
+    private DormMealFormatReportDto formatInBatches(List<DormMeal> meals, long startedAt) {
+        AtomicInteger failed = new AtomicInteger();
+        int formatted = 0;
+
+        List<DormMeal> pending = new ArrayList<>(chunkSize);
+        List<FormattedMenuMemo> pendingMemos = new ArrayList<>(chunkSize);
+        List<DormMeal> notMemoized = applyMemo(meals, pending);
+        int memoHits = pending.size();
+        List<DormMeal> needsGpt = applyLocalParser(notMemoized, pending);
+        int localParsed = pending.size() - memoHits;
+        log.info("📌 메모 재사용 {}건, 로컬 파싱 {}건, GPT 포맷팅 대상 {}건", memoHits, localParsed, needsGpt.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            private final AtomicInteger sequence = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "dorm-meal-format-" + sequence.incrementAndGet());
+            }
+        });
+
+        try {
+            CompletionService<List<DormMeal>> completionService = new ExecutorCompletionService<>(executor);
+            int batchCount = 0;
+            for (int from = 0; from < needsGpt.size(); from += batchSize) {
+                List<DormMeal> batch = needsGpt.subList(from, Math.min(from + batchSize, needsGpt.size()));
+                completionService.submit(() -> formatBatch(batch, failed));
+                batchCount++;
+            }
+
+            for (int i = 0; i < batchCount; i++) {
+                List<DormMeal> done;
+                try {
+                    done = completionService.take().get();
+                } catch (ExecutionException e) {
+                    log.error("❗ 포맷팅 배치 실행 실패: {}", e.getCause().getMessage());
+                    continue;
+                }
+
+                pending.addAll(done);
+                for (DormMeal meal : done) {
+                    if (meal.getHash() != null) {
+                        pendingMemos.add(new FormattedMenuMemo(meal.getHash(), meal.getFormattedMenu(), LocalDateTime.now()));
+                    }
+                }
+                if (pending.size() >= chunkSize) {
+                    formatted += saveChunk(pending, pendingMemos, failed);
+                    log.info("📊 DormMeal 포맷팅 진행: 저장 {}건 / 실패 {}건 / 전체 {}건",
+                            formatted, failed.get(), meals.size());
+                }
+            }
+            formatted += saveChunk(pending, pendingMemos, failed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("❗ DormMeal 포맷팅 작업이 중단되었습니다.");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new DormMealFormatReportDto(meals.size(), formatted, memoHits, localParsed, failed.get(),
+                elapsedMillis, false);
+    }
+
+    // 메모에 있는 식단은 formattedMenu를 채워 resolved에 넣고, 나머지(GPT 포맷팅 대상)를 반환
+    private List<DormMeal> applyMemo(List<DormMeal> meals, List<DormMeal> resolved) {
+        List<String> hashes = meals.stream()
+                .map(DormMeal::getHash)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<String, String> memo = new HashMap<>();
+        try {
+            for (FormattedMenuMemo entry : formattedMenuMemoRepository.findAllById(hashes)) {
+                memo.put(entry.getHash(), entry.getFormattedMenu());
+            }
+        } catch (Exception e) {
+            log.warn("❗ 포맷팅 메모 조회 실패, 전체를 GPT로 포맷팅합니다: {}", e.getMessage());
+        }
+
+        List<DormMeal> remaining = new ArrayList<>();
+        for (DormMeal meal : meals) {
+            String memoized = meal.getHash() != null ? memo.get(meal.getHash()) : null;
+            if (memoized != null) {
+                meal.setFormattedMenu(memoized);
+                resolved.add(meal);
+            } else {
+                remaining.add(meal);
+            }
+        }
+        return remaining;
+    }
+
+    // 로컬 파서 신뢰도가 임계치 이상인 식단은 resolved에 넣고, 나머지(GPT 포맷팅 대상)를 반환
+    private List<DormMeal> applyLocalParser(List<DormMeal> meals, List<DormMeal> resolved) {
+        List<DormMeal> remaining = new ArrayList<>();
+        for (DormMeal meal : meals) {
+            DormMenuParser.Result result = DormMenuParser.parse(meal.getMenu());
+            if (result.formatted() != null && result.confidence() >= localConfidenceThreshold) {
+                meal.setFormattedMenu(result.formatted());
+                resolved.add(meal);
+            } else {
+                log.debug("📌 [{}] 로컬 파싱 신뢰도 부족({}), GPT로 포맷팅합니다.", meal.getMealDate(), result.confidence());
+                remaining.add(meal);
+            }
+        }
+        return remaining;
+    }
+
+    // 배치 요청 결과 중 누락된 항목은 개별 요청으로 재시도하고, 포맷팅에 성공한 식단만 반환
+    private List<DormMeal> formatBatch(List<DormMeal> batch, AtomicInteger failed) {
+        List<String> results;
+        try {
+            results = gptService.formatMealsWithGpt(batch.stream().map(DormMeal::getMenu).toList());
+        } catch (Exception e) {
+            log.error("❗ 배치 포맷팅 실패 ({}건): {}", batch.size(), e.getMessage());
+            failed.addAndGet(batch.size());
+            failedCounter.increment(batch.size());
+            return List.of();
+        }
+
+        List<DormMeal> formatted = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            DormMeal meal = batch.get(i);
+            String result = results.get(i);
             try {
-                String formatted = gptService.formatMealWithGpt(meal.getMenu());
-                meal.setFormattedMenu(formatted);
-                dormMealRepository.save(meal); // JPA dirty checking으로 update
-                log.info("✅ [{}] 포맷팅 완료", meal.getMealDate());
+                if (result == null) {
+                    result = gptService.formatMealWithGpt(meal.getMenu());
+                }
+                meal.setFormattedMenu(result);
+                formatted.add(meal);
             } catch (Exception e) {
                 log.error("❗ [{}] 포맷팅 실패: {}", meal.getMealDate(), e.getMessage());
+                failed.incrementAndGet();
+                failedCounter.increment();
+            }
+        }
+        return formatted;
+    }
+
+    // 각 saveAll 호출이 하나의 짧은 트랜잭션으로 커밋됨
+    private int saveChunk(List<DormMeal> pending, List<FormattedMenuMemo> pendingMemos, AtomicInteger failed) {
+        if (!pendingMemos.isEmpty()) {
+            try {
+                formattedMenuMemoRepository.saveAll(pendingMemos);
+            } catch (Exception e) {
+                log.warn("❗ 포맷팅 메모 저장 실패 ({}건): {}", pendingMemos.size(), e.getMessage());
+            } finally {
+                pendingMemos.clear();
             }
         }
 
-        log.info("✅ DormMeal 포맷팅 스케줄러 실행 종료");
+        if (pending.isEmpty()) return 0;
+        int size = pending.size();
+        try {
+            dormMealRepository.saveAll(pending);
+            formattedCounter.increment(size);
+            return size;
+        } catch (Exception e) {
+            log.error("❗ 포맷팅 결과 저장 실패 ({}건): {}", size, e.getMessage());
+            failed.addAndGet(size);
+            failedCounter.increment(size);
+            return 0;
+        } finally {
+            pending.clear();
+        }
     }
-}
\ No newline at end of file
+}
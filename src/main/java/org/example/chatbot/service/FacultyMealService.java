@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class FacultyMealService extends AbstractSearchService<FacultyMeal> {
     }
 
     @Override
-    protected List<FacultyMeal> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByMealDateContainingAndMenuContaining(date, keyword);
+    protected List<FacultyMeal> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByMealDateBetweenAndMenuContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<FacultyMeal> findByDate(String date) {
-        return repository.findByMealDateContaining(date);
+    protected List<FacultyMeal> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByMealDateBetween(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class FacultyMealService extends AbstractSearchService<FacultyMeal> {
         return repository.findByMenuContaining(keyword);
     }
 
+    @Override
+    protected List<FacultyMeal> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchByMealDateBetweenAndMenuFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<FacultyMeal> findByKeywordFullText(String keyword) {
+        return repository.searchByMenuFullText(keyword);
+    }
+
     @Override
     protected List<FacultyMeal> findAll() {
         return repository.findAll();
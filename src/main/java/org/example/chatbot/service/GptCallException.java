@@ -0,0 +1,15 @@
+package org.example.chatbot.service;
+
+/**
+ * GPT API 호출이 실패했을 때 발생하는 예외입니다.
+ */
+public class GptCallException extends RuntimeException {
+
+    public GptCallException(String message) {
+        super(message);
+    }
+
+    public GptCallException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.chatbot.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OpenAI 호환 Chat Completions API 호출 클라이언트입니다.
+ * 풀링된 gptHttpClient를 사용하며, 연결/읽기 타임아웃과 별개로 요청 전체에 대한 데드라인을 적용합니다.
+ * 요청을 보낼 엔드포인트는 GptEndpointRouter가 고르고, 호출 결과(응답 시간/실패)를 라우터에 기록합니다.
+ */
+@Slf4j
+@Component
+public class GptClient {
+
+    private final CloseableHttpClient httpClient;
+    private final GptEndpointRouter endpointRouter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService deadlineScheduler;
+
+    private final Duration deadline;
+    private final boolean gzipRequest;
+
+    public GptClient(CloseableHttpClient gptHttpClient,
+                     GptEndpointRouter endpointRouter,
+                     @Value("${openai.client.deadline-ms:30000}") long deadlineMs,
+                     @Value("${openai.client.gzip-request:false}") boolean gzipRequest) {
+        this.httpClient = gptHttpClient;
+        this.endpointRouter = endpointRouter;
+        this.deadline = Duration.ofMillis(deadlineMs);
+        this.gzipRequest = gzipRequest;
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "gpt-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.deadlineScheduler = scheduler;
+    }
+
+    /**
+     * 기본 데드라인(openai.client.deadline-ms)으로 Chat Completions 요청을 보냅니다.
+     */
+    public ChatCompletionResponseDto complete(ChatCompletionRequestDto request) {
+        return complete(null, request, deadline);
+    }
+
+    /**
+     * Chat Completions 요청을 보내고 응답을 반환합니다.
+     * 데드라인을 넘기면 요청을 중단하고 예외를 던집니다.
+     *
+     * @param callType 호출 종류 (엔드포인트 라우팅용, null이면 모든 엔드포인트 대상)
+     * @param request  요청 본문
+     * @param deadline 요청 전체 데드라인
+     * @return 파싱된 응답
+     * @throws GptCallException 호출 실패, 비정상 응답 코드 또는 데드라인 초과 시
+     */
+    public ChatCompletionResponseDto complete(String callType, ChatCompletionRequestDto request, Duration deadline) {
+        return newCall(callType, request, deadline, null).execute();
+    }
+
+    /**
+     * 실행 전 호출 핸들을 만듭니다. 다른 스레드에서 cancel()로 진행 중인 요청을 중단할 수 있습니다. (hedging용)
+     *
+     * @param avoid 가능하면 피할 엔드포인트 (hedge 요청을 첫 요청과 다른 엔드포인트로 보낼 때), null 가능
+     */
+    public Call newCall(String callType, ChatCompletionRequestDto request, Duration deadline,
+                        GptEndpointRouter.GptEndpoint avoid) {
+        GptEndpointRouter.Route route = endpointRouter.select(callType, avoid);
+        HttpPost post = new HttpPost(route.endpoint().getUrl());
+        post.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + route.endpoint().getApiKey());
+        post.setEntity(toEntity(request, route.endpoint()));
+        return new Call(route, post, deadline);
+    }
+
+    public class Call {
+
+        private final GptEndpointRouter.Route route;
+        private final HttpPost post;
+        private final Duration deadline;
+        private volatile boolean cancelled;
+
+        private Call(GptEndpointRouter.Route route, HttpPost post, Duration deadline) {
+            this.route = route;
+            this.post = post;
+            this.deadline = deadline;
+        }
+
+        public GptEndpointRouter.GptEndpoint endpoint() {
+            return route.endpoint();
+        }
+
+        /**
+         * @throws GptCallException 호출 실패, 비정상 응답 코드, 데드라인 초과 또는 취소 시
+         */
+        public ChatCompletionResponseDto execute() {
+            return run(false, content -> objectMapper.readValue(content, ChatCompletionResponseDto.class));
+        }
+
+        /**
+         * stream=true 요청의 SSE 응답을 읽으며 토큰(delta.content)이 도착할 때마다 onDelta를 호출합니다.
+         * 엔드포인트 응답 시간은 전체 스트림이 아니라 응답 헤더를 받기까지의 시간으로 기록합니다.
+         *
+         * @return 전체 응답 텍스트
+         * @throws GptCallException 호출 실패, 비정상 응답 코드, 데드라인 초과 또는 취소 시
+         */
+        public String stream(Consumer<String> onDelta) {
+            return run(true, content -> {
+                StringBuilder answer = new StringBuilder();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data:")) continue;
+                    String data = line.substring(5).trim();
+                    if ("[DONE]".equals(data)) break;
+
+                    JsonNode delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+                    if (delta.isTextual() && !delta.asText().isEmpty()) {
+                        answer.append(delta.asText());
+                        onDelta.accept(delta.asText());
+                    }
+                }
+                return answer.toString();
+            });
+        }
+
+        private <T> T run(boolean recordAtHeaders, BodyReader<T> bodyReader) {
+            ScheduledFuture<?> deadlineTask = deadlineScheduler.schedule(
+                    post::cancel, deadline.toMillis(), TimeUnit.MILLISECONDS);
+            long startedAt = System.nanoTime();
+            long[] respondedAt = {0};
+            // 4xx(요청 자체의 문제)는 엔드포인트 장애로 보지 않음
+            boolean endpointFailed = true;
+            try {
+                T result = httpClient.execute(post, response -> {
+                    respondedAt[0] = System.nanoTime();
+                    HttpEntity entity = response.getEntity();
+                    if (response.getCode() >= 300) {
+                        String body = entity != null ? EntityUtils.toString(entity) : "";
+                        throw new GptStatusException(response.getCode(), body);
+                    }
+                    if (entity == null) {
+                        throw new GptCallException("GPT 응답 본문이 비어 있습니다.");
+                    }
+                    try (InputStream content = entity.getContent()) {
+                        return bodyReader.read(content);
+                    }
+                });
+                endpointFailed = false;
+                return result;
+            } catch (GptStatusException e) {
+                endpointFailed = e.isEndpointFailure();
+                throw e;
+            } catch (IOException e) {
+                if (cancelled) {
+                    throw new GptCallException("GPT 호출 취소됨", e);
+                }
+                if (post.isCancelled()) {
+                    throw new GptCallException("GPT 호출 데드라인(" + deadline.toMillis() + "ms) 초과", e);
+                }
+                throw new GptCallException("GPT 호출 실패: " + e.getMessage(), e);
+            } finally {
+                deadlineTask.cancel(false);
+                if (cancelled) {
+                    endpointRouter.release(route);
+                } else {
+                    long endedAt = recordAtHeaders && respondedAt[0] != 0 ? respondedAt[0] : System.nanoTime();
+                    endpointRouter.record(route, TimeUnit.NANOSECONDS.toMillis(endedAt - startedAt), endpointFailed);
+                }
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+            post.cancel();
+        }
+    }
+
+    private HttpEntity toEntity(ChatCompletionRequestDto request, GptEndpointRouter.GptEndpoint endpoint) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(request.withModel(endpoint.getModel()));
+            if (!gzipRequest) {
+                return new ByteArrayEntity(json, ContentType.APPLICATION_JSON);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+            return new ByteArrayEntity(buffer.toByteArray(), ContentType.APPLICATION_JSON, "gzip");
+        } catch (IOException e) {
+            throw new GptCallException("GPT 요청 직렬화 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream content) throws IOException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineScheduler.shutdownNow();
+    }
+}
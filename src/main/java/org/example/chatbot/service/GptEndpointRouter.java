@@ -0,0 +1,234 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.config.GptRoutingProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 OpenAI 호환 엔드포인트 중 호출마다 가장 빠른 정상 엔드포인트를 고릅니다.
+ * 엔드포인트별 응답 시간과 오류율을 EWMA로 추적하고, 오류율이 임계치를 넘은 엔드포인트는 일정 시간 제외했다가
+ * 제외 시간이 지나면 탐침 호출 하나로 복구 여부를 확인합니다. 복귀 여부는 탐침으로 고른 호출(Route.probe)의 결과로만 판단하고,
+ * 탐침 중 끝난 다른 호출의 결과로는 판단하지 않습니다.
+ * 아직 성공 샘플이 없는 엔드포인트는 초기 응답 시간(initialLatencyMs)을 가진 것으로 봅니다.
+ * 모든 엔드포인트가 제외된 경우에는 가장 먼저 복귀할 엔드포인트를 사용합니다. (전체 장애 판단은 GptGuard 몫)
+ */
+@Slf4j
+@Component
+public class GptEndpointRouter {
+
+    private final List<GptEndpoint> endpoints = new ArrayList<>();
+    private final double ewmaAlpha;
+    private final double ejectErrorRate;
+    private final int ejectMinimumCalls;
+    private final long ejectDurationMs;
+
+    /**
+     * select()가 고른 엔드포인트입니다. probe가 true면 제외된 엔드포인트의 복구 여부를 확인하는 탐침 호출입니다.
+     * record()/release()에는 select()가 돌려준 Route를 그대로 넘겨야 합니다.
+     */
+    public record Route(GptEndpoint endpoint, boolean probe) {
+    }
+
+    public GptEndpointRouter(GptRoutingProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${openai.api.url}") String defaultUrl,
+                             @Value("${openai.api.key}") String defaultKey) {
+        this.ewmaAlpha = properties.getEwmaAlpha();
+        this.ejectErrorRate = properties.getEjectErrorRate();
+        this.ejectMinimumCalls = properties.getEjectMinimumCalls();
+        this.ejectDurationMs = properties.getEjectDurationMs();
+        double initialLatencyMs = properties.getInitialLatencyMs();
+
+        if (properties.getEndpoints().isEmpty()) {
+            endpoints.add(new GptEndpoint("default", defaultUrl, defaultKey, null, List.of(), initialLatencyMs));
+        } else {
+            for (GptRoutingProperties.Endpoint endpoint : properties.getEndpoints()) {
+                endpoints.add(new GptEndpoint(
+                        endpoint.getName() != null ? endpoint.getName() : endpoint.getUrl(),
+                        endpoint.getUrl() != null ? endpoint.getUrl() : defaultUrl,
+                        endpoint.getKey() != null ? endpoint.getKey() : defaultKey,
+                        endpoint.getModel(),
+                        List.copyOf(endpoint.getCallTypes()),
+                        initialLatencyMs));
+            }
+        }
+
+        for (GptEndpoint endpoint : endpoints) {
+            Gauge.builder("chatbot.gpt.endpoint.latency", endpoint, GptEndpoint::getEwmaLatencyMs)
+                    .description("엔드포인트별 GPT 응답 시간 EWMA(ms)")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+            Gauge.builder("chatbot.gpt.endpoint.error-rate", endpoint, GptEndpoint::getEwmaErrorRate)
+                    .description("엔드포인트별 GPT 오류율 EWMA")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+            Gauge.builder("chatbot.gpt.endpoint.ejected", endpoint, e -> e.isEjected() ? 1 : 0)
+                    .description("라우팅에서 제외된 엔드포인트 여부")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * callType을 처리할 수 있는 엔드포인트 중 하나를 고릅니다.
+     *
+     * @param callType 호출 종류 (intent, fallback, meal-format 등, null이면 모든 엔드포인트 대상)
+     * @param avoid    가능하면 피할 엔드포인트 (hedge 요청을 다른 엔드포인트로 보낼 때), null 가능
+     */
+    public Route select(String callType, GptEndpoint avoid) {
+        long now = System.currentTimeMillis();
+        GptEndpoint best = null;
+        GptEndpoint fallback = null;
+
+        for (GptEndpoint endpoint : endpoints) {
+            if (!endpoint.accepts(callType)) continue;
+
+            if (endpoint.isEjected()) {
+                // 제외 시간이 지난 엔드포인트는 탐침 호출로 우선 사용
+                if (endpoint.tryStartProbe(now)) return new Route(endpoint, true);
+                if (fallback == null || endpoint.getEjectedUntil() < fallback.getEjectedUntil()) fallback = endpoint;
+                continue;
+            }
+            if (best == null || isBetter(endpoint, best, avoid)) best = endpoint;
+        }
+
+        if (best != null) return new Route(best, false);
+        if (fallback != null) return new Route(fallback, false);
+        throw new GptUnavailableException("호출 종류 '" + callType + "'를 처리할 GPT 엔드포인트가 없습니다.");
+    }
+
+    /**
+     * 호출 결과를 기록합니다. 취소된 호출(hedge에서 진 요청)은 기록하지 않아야 합니다.
+     */
+    public void record(Route route, long latencyMs, boolean failed) {
+        GptEndpoint endpoint = route.endpoint();
+        synchronized (endpoint) {
+            endpoint.calls++;
+            endpoint.ewmaErrorRate = ewma(endpoint.ewmaErrorRate, failed ? 1.0 : 0.0, endpoint.calls);
+            if (!failed) {
+                endpoint.successes++;
+                endpoint.ewmaLatencyMs = ewma(endpoint.ewmaLatencyMs, latencyMs, endpoint.successes);
+            }
+
+            if (route.probe()) {
+                endpoint.probing = false;
+                if (failed) {
+                    eject(endpoint);
+                } else {
+                    log.info("🔀 GPT 엔드포인트 [{}] 복귀", endpoint.getName());
+                    endpoint.ejectedUntil = 0;
+                    endpoint.calls = 1;
+                    endpoint.ewmaErrorRate = 0.0;
+                }
+                return;
+            }
+
+            if (!endpoint.isEjected() && endpoint.calls >= ejectMinimumCalls && endpoint.ewmaErrorRate >= ejectErrorRate) {
+                eject(endpoint);
+            }
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 끝난 호출(취소 등)이 탐침이었으면 다음 탐침을 허용합니다.
+     */
+    public void release(Route route) {
+        if (!route.probe()) return;
+        synchronized (route.endpoint()) {
+            route.endpoint().probing = false;
+        }
+    }
+
+    private void eject(GptEndpoint endpoint) {
+        log.warn("🔀 GPT 엔드포인트 [{}] {}ms 동안 제외 (오류율 EWMA {})",
+                endpoint.getName(), ejectDurationMs, String.format("%.2f", endpoint.ewmaErrorRate));
+        endpoint.ejectedUntil = System.currentTimeMillis() + ejectDurationMs;
+    }
+
+    // 첫 샘플은 그대로 사용해 초기값 0에 끌려가지 않게 함
+    private double ewma(double previous, double sample, long count) {
+        return count <= 1 ? sample : ewmaAlpha * sample + (1 - ewmaAlpha) * previous;
+    }
+
+    // 응답 시간 EWMA가 낮은 쪽, 같으면 avoid가 아닌 쪽 (샘플이 없는 엔드포인트는 초기 응답 시간으로 비교)
+    private boolean isBetter(GptEndpoint candidate, GptEndpoint current, GptEndpoint avoid) {
+        if (candidate == avoid) return false;
+        if (current == avoid) return true;
+        return candidate.getEwmaLatencyMs() < current.getEwmaLatencyMs();
+    }
+
+    public static class GptEndpoint {
+
+        private final String name;
+        private final String url;
+        private final String apiKey;
+        private final String model;
+        private final List<String> callTypes;
+
+        private long calls;
+        private long successes;
+        private double ewmaLatencyMs;
+        private double ewmaErrorRate;
+        private volatile long ejectedUntil;
+        private boolean probing;
+
+        private GptEndpoint(String name, String url, String apiKey, String model, List<String> callTypes,
+                            double initialLatencyMs) {
+            this.name = name;
+            this.url = url;
+            this.apiKey = apiKey;
+            this.model = model;
+            this.callTypes = callTypes;
+            // 첫 성공 샘플이 들어오면 그대로 대체됨 (ewma의 count <= 1)
+            this.ewmaLatencyMs = initialLatencyMs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getApiKey() {
+            return apiKey;
+        }
+
+        public String getModel() {
+            return model;
+        }
+
+        public synchronized double getEwmaLatencyMs() {
+            return ewmaLatencyMs;
+        }
+
+        public synchronized double getEwmaErrorRate() {
+            return ewmaErrorRate;
+        }
+
+        long getEjectedUntil() {
+            return ejectedUntil;
+        }
+
+        boolean isEjected() {
+            return ejectedUntil != 0;
+        }
+
+        boolean accepts(String callType) {
+            return callType == null || callTypes.isEmpty() || callTypes.contains(callType);
+        }
+
+        private synchronized boolean tryStartProbe(long now) {
+            if (probing || now < ejectedUntil) return false;
+            probing = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * GPT 호출을 보호하는 벌크헤드 + 서킷 브레이커입니다.
+ * 동시 호출 수를 제한해 OpenAI 지연이 모든 워커 스레드를 묶지 않게 하고,
+ * 최근 호출 실패율이 임계치를 넘으면 일정 시간 호출을 차단한 뒤 half-open 상태에서 소수의 탐침 호출로 복구를 확인합니다.
+ * 차단되거나 허용량을 얻지 못한 호출은 GptUnavailableException으로 즉시 거절됩니다.
+ */
+@Slf4j
+@Component
+public class GptGuard {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final Semaphore bulkhead;
+    private final long maxWaitMs;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenProbes;
+
+    // 최근 windowSize개의 호출 결과 (true = 실패)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+
+    private final Counter circuitRejections;
+    private final Counter bulkheadRejections;
+
+    public GptGuard(MeterRegistry meterRegistry,
+                    @Value("${openai.resilience.max-concurrent:20}") int maxConcurrent,
+                    @Value("${openai.resilience.max-wait-ms:500}") long maxWaitMs,
+                    @Value("${openai.resilience.window-size:20}") int windowSize,
+                    @Value("${openai.resilience.minimum-calls:10}") int minimumCalls,
+                    @Value("${openai.resilience.failure-rate-threshold:50}") int failureRateThreshold,
+                    @Value("${openai.resilience.open-duration-ms:30000}") long openDurationMs,
+                    @Value("${openai.resilience.half-open-probes:1}") int halfOpenProbes) {
+        this.bulkhead = new Semaphore(maxConcurrent, true);
+        this.maxWaitMs = maxWaitMs;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenProbes = halfOpenProbes;
+        this.outcomes = new boolean[windowSize];
+
+        Gauge.builder("chatbot.gpt.circuit.state", this, guard -> guard.getState().ordinal())
+                .description("GPT 서킷 상태 (0=closed, 1=half-open, 2=open)")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.gpt.bulkhead.queue", bulkhead, Semaphore::getQueueLength)
+                .description("GPT 벌크헤드 허용량을 기다리는 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.gpt.bulkhead.active", bulkhead, b -> maxConcurrent - b.availablePermits())
+                .description("진행 중인 GPT 호출 수")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder("chatbot.gpt.rejected")
+                .description("서킷/벌크헤드에 의해 거절된 GPT 호출 수")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("chatbot.gpt.rejected")
+                .description("서킷/벌크헤드에 의해 거절된 GPT 호출 수")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷과 벌크헤드가 허용하면 call을 실행하고 결과를 기록합니다.
+     *
+     * @throws GptUnavailableException 서킷이 열려 있거나 벌크헤드 허용량을 얻지 못한 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean probe = acquireCircuit();
+
+        boolean permitted;
+        try {
+            permitted = bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permitted = false;
+        }
+        if (!permitted) {
+            releaseProbe(probe);
+            bulkheadRejections.increment();
+            throw new GptUnavailableException("GPT 동시 호출 한도 초과");
+        }
+
+        boolean recorded = false;
+        try {
+            T result = call.get();
+            record(probe, false);
+            recorded = true;
+            return result;
+        } catch (RuntimeException e) {
+            record(probe, true);
+            recorded = true;
+            throw e;
+        } finally {
+            // Error 등으로 결과를 기록하지 못했으면 탐침 자리만 반환해 half-open에 묶이지 않게 함
+            if (!recorded) releaseProbe(probe);
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * reactive 호출용 execute입니다. 스레드를 막지 않도록 벌크헤드 허용량을 기다리지 않고 즉시 판단합니다.
+     * 구독이 취소되면 결과를 기록하지 않고 허용량만 반환합니다.
+     */
+    public <T> Mono<T> executeReactive(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            boolean probe = acquireCircuit();
+            if (!bulkhead.tryAcquire()) {
+                releaseProbe(probe);
+                bulkheadRejections.increment();
+                return Mono.error(new GptUnavailableException("GPT 동시 호출 한도 초과"));
+            }
+
+            Mono<T> source;
+            try {
+                source = call.get();
+            } catch (Throwable e) {
+                releaseProbe(probe);
+                bulkhead.release();
+                throw e;
+            }
+
+            AtomicBoolean recorded = new AtomicBoolean();
+            return source
+                    .doOnSuccess(result -> {
+                        if (recorded.compareAndSet(false, true)) record(probe, false);
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) record(probe, true);
+                    })
+                    .doFinally(signal -> {
+                        if (recorded.compareAndSet(false, true)) releaseProbe(probe);
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // 호출 허용 여부를 판단하고, half-open 탐침 호출이면 true를 반환
+    private synchronized boolean acquireCircuit() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                circuitRejections.increment();
+                throw new GptUnavailableException("GPT 서킷 open 상태");
+            }
+            log.warn("🔌 GPT 서킷 half-open 전환, 탐침 호출을 허용합니다.");
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                circuitRejections.increment();
+                throw new GptUnavailableException("GPT 서킷 half-open 탐침 진행 중");
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe && state == State.HALF_OPEN) probesInFlight--;
+    }
+
+    private synchronized void record(boolean probe, boolean failed) {
+        if (probe) {
+            if (state != State.HALF_OPEN) return;
+            if (failed) {
+                open();
+            } else {
+                log.info("🔌 GPT 서킷 closed 복구");
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+
+        if (recordedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) failedCalls--;
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) failedCalls++;
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    private void open() {
+        log.error("🔌 GPT 서킷 open: 최근 {}건 중 {}건 실패", recordedCalls, failedCalls);
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probesInFlight = 0;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        Arrays.fill(outcomes, false);
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연에 민감한 GPT 호출의 꼬리 지연을 줄이기 위한 hedged request 실행기입니다.
+ * 첫 요청이 최근 응답 시간의 p95(적응형 임계치) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고,
+ * 먼저 성공한 응답을 사용하며 나머지 요청은 취소합니다.
+ * 추가 요청 비율은 토큰 버킷으로 제한해(openai.hedging.max-ratio) OpenAI 장애 시 부하를 두 배로 만들지 않습니다.
+ */
+@Slf4j
+@Component
+public class GptHedger {
+
+    private final GptClient gptClient;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumSamples;
+    private final long initialDelayMs;
+    private final long minDelayMs;
+    private final double maxRatio;
+    private final double maxBurst;
+
+    // 주 요청마다 maxRatio씩 쌓이고 hedge 요청마다 1씩 소모
+    private double hedgeBudget;
+
+    private final Counter hedgeSent;
+    private final Counter hedgeWon;
+    private final Counter hedgeSkipped;
+
+    public GptHedger(GptClient gptClient,
+                     MeterRegistry meterRegistry,
+                     @Value("${openai.hedging.enabled:false}") boolean enabled,
+                     @Value("${openai.hedging.window-size:200}") int windowSize,
+                     @Value("${openai.hedging.minimum-samples:20}") int minimumSamples,
+                     @Value("${openai.hedging.initial-delay-ms:2000}") long initialDelayMs,
+                     @Value("${openai.hedging.min-delay-ms:300}") long minDelayMs,
+                     @Value("${openai.hedging.max-ratio:0.05}") double maxRatio,
+                     @Value("${openai.hedging.max-burst:5}") double maxBurst,
+                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.gptClient = gptClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.minimumSamples = minimumSamples;
+        this.initialDelayMs = initialDelayMs;
+        this.minDelayMs = minDelayMs;
+        this.maxRatio = maxRatio;
+        this.maxBurst = maxBurst;
+
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("gpt-hedge-", 1).factory());
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "gpt-hedge-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        this.hedgeSent = Counter.builder("chatbot.gpt.hedge")
+                .description("hedged GPT 요청 결과")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.hedgeWon = Counter.builder("chatbot.gpt.hedge")
+                .description("hedged GPT 요청 결과")
+                .tag("result", "won")
+                .register(meterRegistry);
+        this.hedgeSkipped = Counter.builder("chatbot.gpt.hedge")
+                .description("hedged GPT 요청 결과")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * hedging이 켜져 있으면 hedged 방식으로, 아니면 단일 요청으로 GPT를 호출합니다.
+     *
+     * @param profileName 지연 통계를 분리할 호출 종류 이름 (예: intent, fallback), 엔드포인트 라우팅에도 사용
+     * @param request     요청 본문
+     * @param deadline    요청 하나의 데드라인
+     * @throws GptCallException 모든 요청이 실패한 경우
+     */
+    public ChatCompletionResponseDto complete(String profileName, ChatCompletionRequestDto request, Duration deadline) {
+        if (!enabled) {
+            return gptClient.complete(profileName, request, deadline);
+        }
+
+        LatencyWindow window = windows.computeIfAbsent(profileName, this::newWindow);
+        addBudget();
+
+        long delayMs = window.hedgeDelayMs();
+        GptClient.Call primary = gptClient.newCall(profileName, request, deadline, null);
+        CompletableFuture<ChatCompletionResponseDto> primaryFuture = start(primary, window);
+        try {
+            return primaryFuture.get(delayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 임계치 초과 → hedge 판단
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new GptCallException("GPT 호출 대기 중 인터럽트", e);
+        }
+
+        Duration remaining = deadline.minusMillis(delayMs);
+        if (remaining.isNegative() || remaining.isZero() || !tryAcquireBudget()) {
+            hedgeSkipped.increment();
+            return await(primaryFuture, primary);
+        }
+
+        hedgeSent.increment();
+        log.debug("⏱️ [{}] GPT 응답이 {}ms를 넘어 hedge 요청을 보냅니다.", profileName, delayMs);
+        GptClient.Call hedge = gptClient.newCall(profileName, request, remaining, primary.endpoint());
+        CompletableFuture<ChatCompletionResponseDto> hedgeFuture = start(hedge, window);
+
+        CompletableFuture<ChatCompletionResponseDto> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean hedgeWins = new AtomicBoolean();
+        primaryFuture.whenComplete((response, error) -> {
+            if (error == null) winner.complete(response);
+            else if (failures.incrementAndGet() == 2) winner.completeExceptionally(error);
+        });
+        hedgeFuture.whenComplete((response, error) -> {
+            if (error == null) {
+                if (winner.complete(response)) hedgeWins.set(true);
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+
+        try {
+            ChatCompletionResponseDto response = await(winner, primary, hedge);
+            if (hedgeWins.get()) hedgeWon.increment();
+            return response;
+        } finally {
+            // 진 요청은 취소하되, 취소 시점까지의 경과 시간을 하한값으로 기록
+            if (!primaryFuture.isDone()) window.record(primary);
+            if (!hedgeFuture.isDone()) window.record(hedge);
+            primary.cancel();
+            hedge.cancel();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<ChatCompletionResponseDto> start(GptClient.Call call, LatencyWindow window) {
+        return CompletableFuture.supplyAsync(() -> {
+            window.started(call);
+            ChatCompletionResponseDto response;
+            try {
+                response = call.execute();
+            } catch (RuntimeException e) {
+                window.forget(call);
+                throw e;
+            }
+            window.record(call);
+            return response;
+        }, executor);
+    }
+
+    private ChatCompletionResponseDto await(CompletableFuture<ChatCompletionResponseDto> future, GptClient.Call... calls) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            for (GptClient.Call call : calls) call.cancel();
+            Thread.currentThread().interrupt();
+            throw new GptCallException("GPT 호출 대기 중 인터럽트", e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+        if (cause instanceof RuntimeException runtime) return runtime;
+        return new GptCallException("GPT 호출 실패: " + cause.getMessage(), cause);
+    }
+
+    private synchronized void addBudget() {
+        hedgeBudget = Math.min(maxBurst, hedgeBudget + maxRatio);
+    }
+
+    private synchronized boolean tryAcquireBudget() {
+        if (hedgeBudget < 1.0) return false;
+        hedgeBudget -= 1.0;
+        return true;
+    }
+
+    private LatencyWindow newWindow(String profileName) {
+        LatencyWindow window = new LatencyWindow();
+        Gauge.builder("chatbot.gpt.hedge.threshold", window, LatencyWindow::hedgeDelayMs)
+                .description("hedge 요청을 보내기까지 기다리는 시간(ms, 최근 응답 시간 p95)")
+                .tag("profile", profileName)
+                .register(meterRegistry);
+        return window;
+    }
+
+    // 최근 windowSize개의 응답 시간과 그 p95 (p95는 일정 샘플마다 다시 계산)
+    private class LatencyWindow {
+
+        private static final int RECOMPUTE_INTERVAL = 10;
+
+        private final long[] samples = new long[windowSize];
+        private final ConcurrentHashMap<GptClient.Call, Long> startedAt = new ConcurrentHashMap<>();
+        private int index;
+        private int count;
+        private int sinceRecompute;
+        private volatile long p95Ms = -1;
+
+        void started(GptClient.Call call) {
+            startedAt.put(call, System.nanoTime());
+        }
+
+        void record(GptClient.Call call) {
+            Long started = startedAt.remove(call);
+            if (started == null) return;
+            add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+
+        void forget(GptClient.Call call) {
+            startedAt.remove(call);
+        }
+
+        private synchronized void add(long elapsedMs) {
+            samples[index] = elapsedMs;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) count++;
+
+            if (count >= minimumSamples && ++sinceRecompute >= RECOMPUTE_INTERVAL) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p95Ms = sorted[(int) Math.ceil(count * 0.95) - 1];
+            }
+        }
+
+        long hedgeDelayMs() {
+            long p95 = p95Ms;
+            return p95 < 0 ? initialDelayMs : Math.max(minDelayMs, p95);
+        }
+    }
+}
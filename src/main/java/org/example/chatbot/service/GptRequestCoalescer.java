@@ -0,0 +1,211 @@
+package org.example.chatbot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 GPT 요청이 동시에 여러 번 들어오면 하나의 호출만 실행하고 결과를 공유합니다(single-flight).
+ * 기본은 JVM 단위이며, openai.coalescing.redis.enabled=true이면 Redis 락으로 여러 노드 간에도 합칩니다.
+ * 실패한 호출은 공유 결과로 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+public class GptRequestCoalescer {
+
+    private static final String LOCK_PREFIX = "gpt:flight:lock:";
+    private static final String RESULT_PREFIX = "gpt:flight:result:";
+
+    // 락 값이 자기 nodeId일 때만 삭제 (호출이 락 TTL을 넘겨 다른 노드가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlightReactive = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final boolean redisEnabled;
+    private final Duration redisWait;
+    private final Duration redisPollInterval;
+    private final Duration redisResultTtl;
+
+    private final Counter localCoalesced;
+    private final Counter redisCoalesced;
+
+    public GptRequestCoalescer(RedisTemplate<String, Object> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${openai.coalescing.redis.enabled:false}") boolean redisEnabled,
+                               @Value("${openai.coalescing.redis.wait-ms:30000}") long redisWaitMs,
+                               @Value("${openai.coalescing.redis.poll-ms:50}") long redisPollMs,
+                               @Value("${openai.coalescing.redis.result-ttl-ms:10000}") long redisResultTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisWait = Duration.ofMillis(redisWaitMs);
+        this.redisPollInterval = Duration.ofMillis(redisPollMs);
+        this.redisResultTtl = Duration.ofMillis(redisResultTtlMs);
+
+        this.localCoalesced = Counter.builder("chatbot.gpt.coalesced")
+                .description("진행 중인 동일 요청에 합쳐진 GPT 호출 수")
+                .tag("scope", "local")
+                .register(meterRegistry);
+        this.redisCoalesced = Counter.builder("chatbot.gpt.coalesced")
+                .description("진행 중인 동일 요청에 합쳐진 GPT 호출 수")
+                .tag("scope", "redis")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 요청이 진행 중이면 그 결과를 기다리고, 아니면 call을 실행합니다.
+     *
+     * @param request GPT 요청 (키 계산용)
+     * @param call    실제 GPT 호출
+     * @return 응답 텍스트
+     */
+    public String execute(ChatCompletionRequestDto request, Supplier<String> call) {
+        String key = hash(request);
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            localCoalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            String result = redisEnabled ? executeAcrossNodes(key, call) : call.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * reactive 호출용 execute입니다. JVM 안에서만 합치며(Redis 락 대기는 스레드를 막으므로 사용하지 않음),
+     * 같은 요청의 구독자들은 하나의 호출 결과를 공유합니다.
+     * 호출은 구독 시점에 등록/시작되고 첫 구독자와 별개로 끝까지 진행되므로, 구독하지 않거나 취소한 호출자가 있어도
+     * 다른 호출자가 끝나지 않는 호출에 합류하지 않습니다.
+     */
+    public Mono<String> executeReactive(ChatCompletionRequestDto request, Supplier<Mono<String>> call) {
+        String key = hash(request);
+        return Mono.defer(() -> {
+            CompletableFuture<String> created = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlightReactive.putIfAbsent(key, created);
+            if (existing != null) {
+                localCoalesced.increment();
+                return Mono.fromFuture(existing, true);
+            }
+            created.whenComplete((result, error) -> inFlightReactive.remove(key, created));
+            Mono.defer(call).subscribe(created::complete, created::completeExceptionally, () -> created.complete(null));
+            return Mono.fromFuture(created, true);
+        });
+    }
+
+    private String executeAcrossNodes(String key, Supplier<String> call) {
+        String lockKey = LOCK_PREFIX + key;
+        String resultKey = RESULT_PREFIX + key;
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, nodeId, redisWait);
+        } catch (Exception e) {
+            log.warn("❗ GPT 요청 병합용 Redis 락 획득 실패, 단독 호출합니다: {}", e.getMessage());
+            return call.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                String result = call.get();
+                try {
+                    redisTemplate.opsForValue().set(resultKey, result, redisResultTtl);
+                } catch (Exception e) {
+                    log.warn("❗ GPT 공유 결과 저장 실패, 대기 중인 노드는 직접 호출합니다: {}", e.getMessage());
+                }
+                return result;
+            } finally {
+                releaseLock(lockKey);
+            }
+        }
+
+        String shared = waitForSharedResult(lockKey, resultKey);
+        if (shared != null) {
+            redisCoalesced.increment();
+            return shared;
+        }
+        // 다른 노드의 호출이 실패했거나 대기 시간을 넘긴 경우 직접 호출
+        return call.get();
+    }
+
+    private void releaseLock(String lockKey) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), nodeId);
+        } catch (Exception e) {
+            log.warn("❗ GPT 요청 병합용 Redis 락 해제 실패, TTL 만료를 기다립니다: {}", e.getMessage());
+        }
+    }
+
+    private String waitForSharedResult(String lockKey, String resultKey) {
+        long deadline = System.nanoTime() + redisWait.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Object value = redisTemplate.opsForValue().get(resultKey);
+                if (value != null) return value.toString();
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                    value = redisTemplate.opsForValue().get(resultKey);
+                    return value != null ? value.toString() : null;
+                }
+                Thread.sleep(redisPollInterval.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("❗ GPT 공유 결과 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private String hash(ChatCompletionRequestDto request) {
+        try {
+            byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("GPT 요청 해시 계산 실패", e);
+        }
+    }
+}
@@ -1,44 +1,162 @@
 package org.example.chatbot.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.config.GptProfileProperties;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
 import org.example.chatbot.dto.IntentResultDto;
 import org.example.chatbot.util.GptPromptBuilder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GptService {
 
-    private final RestTemplate restTemplate;
+    private final GptClient gptClient;
+    private final GptRequestCoalescer gptRequestCoalescer;
+    private final GptGuard gptGuard;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final IntentCache intentCache;
+    private final MeterRegistry meterRegistry;
+    private final GptProfileProperties gptProfileProperties;
+    private final GptHedger gptHedger;
+    // reactive 프로필에서만 존재
+    private final ObjectProvider<ReactiveGptClient> reactiveGptClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Value("${openai.api.key}")
-    private String apiKey;
-
-    @Value("${openai.api.url}")
-    private String apiUrl;
-
     @Value("${openai.api.model}")
     private String model;
 
+    @Value("${openai.intent.batch.enabled:false}")
+    private boolean intentBatchEnabled;
+
+    @Value("${openai.intent.batch.window-ms:30}")
+    private long intentBatchWindowMs;
+
+    @Value("${openai.intent.batch.max-size:16}")
+    private int intentBatchMaxSize;
+
+    private IntentMicroBatcher intentMicroBatcher;
+
     private static final Set<String> VALID_INTENTS = Set.of(
             "학생식당", "교직원식당", "기숙사식당",
             "학사공지", "장학공지", "학사일정", "한경공지",
             "식당 미지정"
     );
 
+    private static final JsonNode INTENT_RESPONSE_FORMAT =
+            jsonSchemaFormat("intent_result", GptPromptBuilder.INTENT_RESPONSE_SCHEMA);
+
+    private static final JsonNode BATCH_INTENT_RESPONSE_FORMAT =
+            jsonSchemaFormat("intent_results", GptPromptBuilder.BATCH_INTENT_RESPONSE_SCHEMA);
+
+    private static final Pattern BATCH_DELIMITER = Pattern.compile("(?m)^\\s*###\\s*(\\d+)\\s*###\\s*$");
+
+    static final String DEGRADED_FALLBACK_ANSWER =
+            "지금은 답변 생성 서비스가 혼잡해 자세한 답변을 드리기 어려워요. " +
+                    "학사공지, 장학공지, 한경공지, 학사일정, 학생식당·교직원식당·기숙사식당 식단은 계속 조회할 수 있어요.";
+
+    @PostConstruct
+    void initIntentBatcher() {
+        if (!intentBatchEnabled) return;
+        intentMicroBatcher = new IntentMicroBatcher(
+                this::classifyBatchWithGpt, this::classifyWithGpt,
+                Duration.ofMillis(intentBatchWindowMs), Duration.ofMillis(gptProfileProperties.getIntent().getTimeoutMs()),
+                intentBatchMaxSize, meterRegistry);
+        log.info("✅ intent 마이크로 배칭 활성화 (window={}ms, maxSize={})", intentBatchWindowMs, intentBatchMaxSize);
+    }
+
+    @PreDestroy
+    void shutdownIntentBatcher() {
+        if (intentMicroBatcher != null) intentMicroBatcher.shutdown();
+    }
+
     public IntentResultDto classifyIntent(String userInput) {
+        // 사전 규칙만으로 확정 가능한 질문은 GPT 호출 없이 바로 반환
+        IntentResultDto localResult = localIntentClassifier.classify(userInput);
+        if (localResult != null) {
+            return localResult;
+        }
+
+        IntentResultDto cached = intentCache.get(userInput);
+        if (cached != null) {
+            return cached;
+        }
+
+        IntentResultDto result;
+        try {
+            result = intentMicroBatcher != null
+                    ? intentMicroBatcher.classify(userInput)
+                    : classifyWithGpt(userInput);
+        } catch (GptUnavailableException e) {
+            log.warn("⚠️ GPT 사용 불가({}), 규칙 기반 축소 분류로 대체합니다.", e.getMessage());
+            return localIntentClassifier.classifyDegraded(userInput);
+        }
+        if (isCacheable(result)) {
+            intentCache.put(userInput, result);
+        }
+        return result;
+    }
+
+    /**
+     * classifyIntent의 reactive 버전입니다. GPT 호출은 ReactiveGptClient로 스레드를 막지 않고 수행하며,
+     * 블로킹 Redis를 쓰는 IntentCache 조회/저장만 boundedElastic 스케줄러에서 실행합니다.
+     * (reactive 경로는 마이크로 배칭, hedging, Redis 간 요청 합치기를 사용하지 않음)
+     */
+    public Mono<IntentResultDto> classifyIntentReactive(String userInput) {
+        IntentResultDto localResult = localIntentClassifier.classify(userInput);
+        if (localResult != null) {
+            return Mono.just(localResult);
+        }
+
+        return Mono.fromCallable(() -> Optional.ofNullable(intentCache.get(userInput)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> classifyWithGptReactive(userInput)
+                        .flatMap(result -> isCacheable(result)
+                                ? Mono.fromRunnable(() -> intentCache.put(userInput, result))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .thenReturn(result)
+                                : Mono.just(result))))
+                .onErrorResume(GptUnavailableException.class, e -> {
+                    log.warn("⚠️ GPT 사용 불가({}), 규칙 기반 축소 분류로 대체합니다.", e.getMessage());
+                    return Mono.just(localIntentClassifier.classifyDegraded(userInput));
+                });
+    }
+
+    private Mono<IntentResultDto> classifyWithGptReactive(String userInput) {
+        GptProfileProperties.Profile profile = gptProfileProperties.getIntent();
+        return sendToGptReactive("intent", GptPromptBuilder.buildIntentAndKeywordPrompt(userInput), profile,
+                INTENT_RESPONSE_FORMAT)
+                .map(rawContent -> parseIntentResponse(userInput, rawContent));
+    }
+
+    private IntentResultDto classifyWithGpt(String userInput) {
         String prompt = GptPromptBuilder.buildIntentAndKeywordPrompt(userInput);
-        String rawContent = sendToGpt(prompt);
+        String rawContent = sendToGpt("intent", prompt, gptProfileProperties.getIntent(), INTENT_RESPONSE_FORMAT);
+        return parseIntentResponse(userInput, rawContent);
+    }
+
+    private IntentResultDto parseIntentResponse(String userInput, String rawContent) {
         String content = sanitizeGptResponse(rawContent).trim();
 
         log.error("📥 GPT 원문 응답(raw): {}", rawContent);
@@ -53,24 +171,75 @@ public class GptService {
             String intent = root.has("intent") ? root.get("intent").asText(null) : null;
             String keyword = root.has("keyword") ? root.get("keyword").asText(null) : null;
 
-            if (userInput.contains("일정")) {
-                log.error("📥 질문에 '일정' 키워드 감지, intent를 '학사일정'으로 강제 지정합니다.");
-                intent = "학사일정";
-            }
+            return toIntentResult(userInput, intent, keyword);
+        } catch (Exception e) {
+            return handleIntentFallback(userInput, content);
+        }
+    }
 
-            if (intent == null || !VALID_INTENTS.contains(intent)) {
-                if (userInput.contains("식당")) {
-                    return new IntentResultDto("식당 미지정", null,
-                            "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요.");
+    /**
+     * 여러 질문을 한 번의 GPT 요청으로 분류합니다. (IntentMicroBatcher용)
+     * 응답 항목 수나 index가 질문과 정확히 맞지 않으면 결과가 다른 사용자의 질문에 섞였을 수 있으므로
+     * 전체를 null로 남겨 각 질문을 개별 분류로 재시도하게 합니다.
+     */
+    private List<IntentResultDto> classifyBatchWithGpt(List<String> userInputs) {
+        String prompt = GptPromptBuilder.buildBatchIntentPrompt(userInputs);
+        GptProfileProperties.Profile profile = gptProfileProperties.getIntent();
+        String content = sanitizeGptResponse(
+                callGpt("intent-batch", prompt, profile, profile.getMaxTokens() * userInputs.size(),
+                        BATCH_INTENT_RESPONSE_FORMAT));
+
+        List<IntentResultDto> unresolved = Collections.nCopies(userInputs.size(), null);
+        List<IntentResultDto> results = new ArrayList<>(unresolved);
+        try {
+            JsonNode root = objectMapper.readTree(content);
+            JsonNode items = root.isArray() ? root : root.path("results");
+            if (items.size() != userInputs.size()) {
+                log.warn("⚠️ intent 배치 응답 항목 수 불일치 (요청 {}건, 응답 {}건), 개별 분류로 전환합니다.",
+                        userInputs.size(), items.size());
+                return unresolved;
+            }
+            for (JsonNode item : items) {
+                int index = item.path("index").asInt(0) - 1;
+                if (index < 0 || index >= userInputs.size() || results.get(index) != null
+                        || !item.path("intent").isTextual()) {
+                    log.warn("⚠️ intent 배치 응답의 index가 잘못되었거나 중복됨 ({}), 개별 분류로 전환합니다.", item.path("index"));
+                    return unresolved;
                 }
-                return new IntentResultDto("없음", null, null);
+
+                String intent = item.get("intent").asText();
+                String keyword = item.path("keyword").isTextual() ? item.get("keyword").asText() : null;
+                results.set(index, toIntentResult(userInputs.get(index), intent, keyword));
             }
+        } catch (Exception e) {
+            log.warn("❗ intent 배치 응답 파싱 실패: {}", e.getMessage());
+            return unresolved;
+        }
+        return results;
+    }
 
-            return new IntentResultDto(intent, keyword, null);
+    private IntentResultDto toIntentResult(String userInput, String intent, String keyword) {
+        if (userInput.contains("일정")) {
+            log.error("📥 질문에 '일정' 키워드 감지, intent를 '학사일정'으로 강제 지정합니다.");
+            intent = "학사일정";
+        }
 
-        } catch (Exception e) {
-            return handleIntentFallback(userInput, content);
+        if (intent == null || !VALID_INTENTS.contains(intent)) {
+            if (userInput.contains("식당")) {
+                return new IntentResultDto("식당 미지정", null,
+                        "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요.");
+            }
+            return new IntentResultDto("없음", null, null);
         }
+
+        return new IntentResultDto(intent, keyword, null);
+    }
+
+    // GPT가 직접 분류한 결과만 캐싱함. answer가 채워진 결과는 호출 실패나 잘못된 응답을 보정한 fallback이라
+    // ("식당" 포함 질문의 "식당 미지정" 포함) 일시적인 장애가 캐시 TTL 동안 잘못된 답으로 남지 않도록 제외
+    private boolean isCacheable(IntentResultDto result) {
+        if (result.getIntent() == null || result.getAnswer() != null) return false;
+        return VALID_INTENTS.contains(result.getIntent()) || "없음".equals(result.getIntent());
     }
 
     private IntentResultDto handleIntentFallback(String userInput, String content) {
@@ -84,63 +253,206 @@ public class GptService {
 
     public String generateFallbackAnswer(String userInput) {
         String prompt = GptPromptBuilder.buildFallbackPrompt(userInput);
-        return sendToGpt(prompt);
+        try {
+            return sendToGpt("fallback", prompt, gptProfileProperties.getFallback(), null);
+        } catch (GptUnavailableException e) {
+            log.warn("⚠️ GPT 사용 불가({}), fallback 답변을 안내 문구로 대체합니다.", e.getMessage());
+            return DEGRADED_FALLBACK_ANSWER;
+        }
+    }
+
+    /**
+     * generateFallbackAnswer의 reactive 버전입니다.
+     */
+    public Mono<String> generateFallbackAnswerReactive(String userInput) {
+        return sendToGptReactive("fallback", GptPromptBuilder.buildFallbackPrompt(userInput),
+                gptProfileProperties.getFallback(), null)
+                .onErrorResume(GptUnavailableException.class, e -> {
+                    log.warn("⚠️ GPT 사용 불가({}), fallback 답변을 안내 문구로 대체합니다.", e.getMessage());
+                    return Mono.just(DEGRADED_FALLBACK_ANSWER);
+                });
+    }
+
+    /**
+     * fallback 답변을 스트리밍으로 생성합니다. 토큰이 도착할 때마다 onDelta를 호출합니다.
+     * 스트림은 여러 요청이 나눠 받을 수 없으므로 요청 합치기(coalescing)와 hedging 없이 서킷/벌크헤드만 적용합니다.
+     * onDelta가 예외를 던지면(클라이언트 연결 종료) 스트림을 취소하고 그때까지의 답변을 반환합니다.
+     *
+     * @return 전체 답변 (GPT 사용 불가 또는 첫 토큰 전 실패 시 안내 문구, 이 경우에도 onDelta로 전달됨)
+     */
+    public String streamFallbackAnswer(String userInput, Consumer<String> onDelta) {
+        GptProfileProperties.Profile profile = gptProfileProperties.getFallback();
+        ChatCompletionRequestDto request = buildRequest(GptPromptBuilder.buildFallbackPrompt(userInput),
+                profile, profile.getMaxTokens(), null);
+        request.setStream(true);
+        Duration timeout = Duration.ofMillis(profile.getTimeoutMs());
+
+        StringBuilder answer = new StringBuilder();
+        AtomicBoolean clientGone = new AtomicBoolean();
+        try {
+            return gptGuard.execute(() -> {
+                GptClient.Call call = gptClient.newCall("fallback", request, timeout, null);
+                try {
+                    return call.stream(delta -> {
+                        if (clientGone.get()) return;
+                        answer.append(delta);
+                        try {
+                            onDelta.accept(delta);
+                        } catch (RuntimeException e) {
+                            clientGone.set(true);
+                            call.cancel();
+                        }
+                    });
+                } catch (GptCallException e) {
+                    // 클라이언트가 떠나 취소한 스트림은 GPT 실패로 기록하지 않음
+                    if (clientGone.get()) return answer.toString();
+                    throw e;
+                }
+            });
+        } catch (GptCallException e) {
+            if (e instanceof GptUnavailableException) {
+                log.warn("⚠️ GPT 사용 불가({}), fallback 답변을 안내 문구로 대체합니다.", e.getMessage());
+            } else {
+                log.error("❗ GPT 스트리밍 호출 실패: {}", e.getMessage());
+            }
+            if (!answer.isEmpty()) return answer.toString();
+            if (!clientGone.get()) onDelta.accept(DEGRADED_FALLBACK_ANSWER);
+            return DEGRADED_FALLBACK_ANSWER;
+        }
     }
 
+    /**
+     * 기숙사 식단 원본 하나를 GPT로 포맷팅합니다.
+     *
+     * @throws GptCallException GPT 호출 실패 시 (실패 문구를 포맷팅 결과로 저장하지 않도록 예외로 알림)
+     */
     public String formatMealWithGpt(String rawMenu) {
-        String prompt = String.format(
-                """
-                아래 기숙사 식단 메뉴를 시간대별로 [아침], [점심], [저녁] 태그를 붙여 구분하고, 각 항목은 - 기호로 줄바꿈해 깔끔하게 출력해줘.
-                다른 텍스트는 절대 추가하지 말고, 메뉴 내용만 다음 예시와 같은 형태로 반환해:
-
-                [점심] 12:00~13:00
-                - 귀리밥
-                - 소고기무국 (호주산)
-                ...
-                
-                [저녁] 17:00~18:10
-                - 참치김치밥
-                ...
-                
-                만약 [아침], [점심], [저녁] 시간대가 명확하지 않다면 절대로 [전체] 같은 임의의 태그를 넣지 말고, 그냥 항목만 - 기호로 나열해줘.
-                
-                아래는 메뉴 원본이다:
-                %s
-                """,
-                rawMenu
-        );
-        String gptResult = sendToGpt(prompt).trim();
+        GptProfileProperties.Profile profile = gptProfileProperties.getMealFormat();
+        String gptResult = callGpt("meal-format", GptPromptBuilder.buildMealFormatPrompt(rawMenu), profile,
+                profile.getMaxTokens(), null).trim();
         return postProcessFormattedMenu(gptResult);
     }
 
-    private String sendToGpt(String prompt) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * 여러 기숙사 식단 원본을 한 번의 GPT 호출로 포맷팅합니다.
+     * 응답에서 특정 번호의 구역을 찾지 못하면 해당 위치는 null로 반환하므로, 호출하는 쪽에서 개별 포맷팅으로 재시도해야 합니다.
+     *
+     * @param rawMenus 식단 원본 목록
+     * @return 입력과 같은 순서의 포맷팅 결과 목록 (실패한 항목은 null)
+     * @throws GptCallException GPT 호출 자체가 실패한 경우
+     */
+    public List<String> formatMealsWithGpt(List<String> rawMenus) {
+        if (rawMenus.size() == 1) {
+            return List.of(formatMealWithGpt(rawMenus.get(0)));
+        }
 
-        Map<String, Object> body = Map.of(
-                "model", model,
-                "temperature", 0.0,
-                "max_tokens", 500,
-                "messages", List.of(Map.of("role", "user", "content", prompt))
-        );
+        GptProfileProperties.Profile profile = gptProfileProperties.getMealFormat();
+        String content = callGpt("meal-format", GptPromptBuilder.buildBatchMealFormatPrompt(rawMenus), profile,
+                profile.getMaxTokens() * rawMenus.size(), null);
+        Map<Integer, String> sections = new HashMap<>();
+        Matcher matcher = BATCH_DELIMITER.matcher(content);
+        int previousIndex = -1;
+        int previousEnd = 0;
+        while (matcher.find()) {
+            if (previousIndex != -1) {
+                sections.put(previousIndex, content.substring(previousEnd, matcher.start()).trim());
+            }
+            previousIndex = Integer.parseInt(matcher.group(1));
+            previousEnd = matcher.end();
+        }
+        if (previousIndex != -1) {
+            sections.put(previousIndex, content.substring(previousEnd).trim());
+        }
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        List<String> results = new ArrayList<>(rawMenus.size());
+        for (int i = 1; i <= rawMenus.size(); i++) {
+            String section = sections.get(i);
+            results.add(section == null || section.isBlank() ? null : postProcessFormattedMenu(section));
+        }
+        return results;
+    }
 
+    /**
+     * GPT를 호출합니다. 서킷/벌크헤드에 의해 거절되면 GptUnavailableException을 그대로 던지고,
+     * 그 외 호출 실패는 실패 문구를 반환합니다.
+     */
+    private String sendToGpt(String callType, String prompt, GptProfileProperties.Profile profile,
+                             JsonNode responseFormat) {
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, request, Map.class);
-            return extractContentFromResponse(response);
+            return callGpt(callType, prompt, profile, profile.getMaxTokens(), responseFormat);
+        } catch (GptUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❗ GPT 호출 실패: {}", e.getMessage());
             return "메뉴 포맷팅에 실패했습니다.";
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private String extractContentFromResponse(ResponseEntity<Map> response) {
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
-        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-        return message.get("content").toString().trim();
+    // sendToGpt와 같은 실패 처리: GptUnavailableException만 그대로 전달하고 나머지는 실패 문구로 대체
+    private Mono<String> sendToGptReactive(String callType, String prompt, GptProfileProperties.Profile profile,
+                                           JsonNode responseFormat) {
+        ChatCompletionRequestDto request = buildRequest(prompt, profile, profile.getMaxTokens(), responseFormat);
+        Duration timeout = Duration.ofMillis(profile.getTimeoutMs());
+
+        return gptRequestCoalescer.executeReactive(request, () -> gptGuard.executeReactive(() ->
+                        reactiveGptClient.getObject().complete(callType, request, timeout).flatMap(response -> {
+                            String content = response.firstContent();
+                            return content != null
+                                    ? Mono.just(content)
+                                    : Mono.error(new GptCallException("GPT 응답에 choices가 없습니다."));
+                        })))
+                .onErrorResume(e -> !(e instanceof GptUnavailableException), e -> {
+                    log.error("❗ GPT 호출 실패: {}", e.getMessage());
+                    return Mono.just("메뉴 포맷팅에 실패했습니다.");
+                });
+    }
+
+    /**
+     * 프로필의 모델/temperature/데드라인으로 GPT를 호출합니다.
+     * 프로필이 구조화된 출력을 사용하면 responseFormat(JSON Schema)을 함께 보내고,
+     * hedged 프로필이면 callType별 응답 시간 통계로 hedged request를 보냅니다.
+     */
+    private String callGpt(String callType, String prompt, GptProfileProperties.Profile profile, int maxTokens,
+                           JsonNode responseFormat) {
+        ChatCompletionRequestDto request = buildRequest(prompt, profile, maxTokens, responseFormat);
+        Duration timeout = Duration.ofMillis(profile.getTimeoutMs());
+
+        return gptRequestCoalescer.execute(request, () -> gptGuard.execute(() -> {
+            ChatCompletionResponseDto response = profile.isHedged()
+                    ? gptHedger.complete(callType, request, timeout)
+                    : gptClient.complete(callType, request, timeout);
+            String content = response.firstContent();
+            if (content == null) {
+                throw new GptCallException("GPT 응답에 choices가 없습니다.");
+            }
+            return content;
+        }));
+    }
+
+    private ChatCompletionRequestDto buildRequest(String prompt, GptProfileProperties.Profile profile, int maxTokens,
+                                                  JsonNode responseFormat) {
+        String requestModel = profile.getModel() != null && !profile.getModel().isBlank() ? profile.getModel() : model;
+        ChatCompletionRequestDto request =
+                ChatCompletionRequestDto.ofUserPrompt(requestModel, prompt, profile.getTemperature(), maxTokens);
+        if (profile.isStructuredOutput()) {
+            request.setResponseFormat(responseFormat);
+        }
+        return request;
+    }
+
+    private static JsonNode jsonSchemaFormat(String name, String schema) {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode format = mapper.createObjectNode();
+        format.put("type", "json_schema");
+        ObjectNode jsonSchema = format.putObject("json_schema");
+        jsonSchema.put("name", name);
+        jsonSchema.put("strict", true);
+        try {
+            jsonSchema.set("schema", mapper.readTree(schema));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("잘못된 응답 JSON Schema: " + name, e);
+        }
+        return format;
     }
 
     private String sanitizeGptResponse(String content) {
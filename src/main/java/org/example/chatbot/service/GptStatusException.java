@@ -0,0 +1,23 @@
+package org.example.chatbot.service;
+
+/**
+ * GPT API가 2xx가 아닌 응답 코드를 반환했을 때 발생하는 예외입니다.
+ */
+public class GptStatusException extends GptCallException {
+
+    private final int status;
+
+    public GptStatusException(int status, String body) {
+        super("GPT 응답 코드 " + status + ": " + body);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    // 4xx(요청 자체의 문제)는 엔드포인트 장애로 보지 않음 (429 제외)
+    public boolean isEndpointFailure() {
+        return status >= 500 || status == 429;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.chatbot.service;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드 허용량이 없어 GPT 호출을 시도하지 않았을 때 발생하는 예외입니다.
+ * 호출하는 쪽은 GPT 없이 동작하는 축소(degraded) 응답으로 대체해야 합니다.
+ */
+public class GptUnavailableException extends GptCallException {
+
+    public GptUnavailableException(String message) {
+        super(message);
+    }
+}
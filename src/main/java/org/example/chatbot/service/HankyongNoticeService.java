@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class HankyongNoticeService extends AbstractSearchService<HankyongNotice>
     }
 
     @Override
-    protected List<HankyongNotice> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByNoticeDateContainingAndTitleContaining(date, keyword);
+    protected List<HankyongNotice> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByNoticeDateBetweenAndTitleContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<HankyongNotice> findByDate(String date) {
-        return repository.findByNoticeDateContaining(date);
+    protected List<HankyongNotice> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByNoticeDateBetween(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class HankyongNoticeService extends AbstractSearchService<HankyongNotice>
         return repository.findByTitleContaining(keyword);
     }
 
+    @Override
+    protected List<HankyongNotice> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchByNoticeDateBetweenAndTitleFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<HankyongNotice> findByKeywordFullText(String keyword) {
+        return repository.searchByTitleFullText(keyword);
+    }
+
     @Override
     protected List<HankyongNotice> findAll() {
         return repository.findAll();
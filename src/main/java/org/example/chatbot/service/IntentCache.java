@@ -0,0 +1,124 @@
+package org.example.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+import static org.example.chatbot.util.DateTimeExtractor.DATE_EXPRESSION_PATTERN;
+
+/**
+ * GPT intent 분류 결과를 정규화된 질문 기준으로 캐싱합니다.
+ * 프로세스 내부 Caffeine(W-TinyLFU) 캐시를 1차로, Redis를 2차 공유 캐시로 사용합니다.
+ * 날짜는 DateTimeExtractor가 별도로 추출하므로 키에서는 마스킹합니다. ("오늘 학식" == "내일 학식")
+ */
+@Slf4j
+@Component
+public class IntentCache {
+
+    private static final String KEY_PREFIX = "chat:intent:v1:";
+    private static final String DATE_MASK = "§";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final Pattern STRIP_PATTERN = Pattern.compile("[\\s\\p{Punct}？！~]+");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, IntentResultDto> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter redisHit;
+    private final Counter redisMiss;
+
+    public IntentCache(RedisTemplate<String, Object> redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${chatbot.intent-cache.local.max-size:10000}") long localMaxSize,
+                       @Value("${chatbot.intent-cache.local.ttl-minutes:60}") long localTtlMinutes,
+                       @Value("${chatbot.intent-cache.redis.ttl-hours:24}") long redisTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+
+        this.localHit = counter(meterRegistry, "local", "hit");
+        this.localMiss = counter(meterRegistry, "local", "miss");
+        this.redisHit = counter(meterRegistry, "redis", "hit");
+        this.redisMiss = counter(meterRegistry, "redis", "miss");
+    }
+
+    /**
+     * 캐시된 분류 결과를 조회합니다. 로컬 → Redis 순으로 확인하며, Redis 적중 시 로컬 캐시에도 채웁니다.
+     *
+     * @param userInput 사용자 질문
+     * @return 캐시된 결과, 없으면 null
+     */
+    public IntentResultDto get(String userInput) {
+        String key = normalize(userInput);
+        if (key == null) return null;
+
+        IntentResultDto cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHit.increment();
+            return cached;
+        }
+        localMiss.increment();
+
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value instanceof IntentResultDto result) {
+                redisHit.increment();
+                localCache.put(key, result);
+                return result;
+            }
+        } catch (Exception e) {
+            log.warn("❗ intent 캐시 Redis 조회 실패: {}", e.getMessage());
+        }
+        redisMiss.increment();
+        return null;
+    }
+
+    /**
+     * 분류 결과를 두 계층 모두에 저장합니다.
+     */
+    public void put(String userInput, IntentResultDto result) {
+        String key = normalize(userInput);
+        if (key == null || result == null) return;
+
+        localCache.put(key, result);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, result, redisTtl);
+        } catch (Exception e) {
+            log.warn("❗ intent 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 날짜 표현을 마스킹하고 공백/구두점을 제거한 캐시 키를 만듭니다.
+     * 너무 긴 질문은 재사용 가능성이 낮으므로 캐싱하지 않습니다(null 반환).
+     */
+    static String normalize(String userInput) {
+        if (userInput == null) return null;
+        String masked = DATE_EXPRESSION_PATTERN.matcher(userInput).replaceAll(DATE_MASK);
+        String normalized = STRIP_PATTERN.matcher(masked).replaceAll("");
+        if (normalized.isEmpty() || normalized.length() > MAX_KEY_LENGTH) return null;
+        return normalized;
+    }
+
+    private static Counter counter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("chatbot.intent.cache")
+                .description("intent 분류 캐시 계층별 적중 여부")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * intent 분류 요청을 짧은 시간(window) 동안 모았다가 한 번의 GPT 요청으로 분류하는 마이크로 배처입니다.
+ * window가 지나거나 maxBatchSize개가 모이면 배치를 보내고, 배치 응답에서 특정 항목을 얻지 못하면 그 항목만 개별 분류합니다.
+ * 호출 스레드는 window + timeout까지만 배치 결과를 기다리고, 넘기면 배치를 기다리지 않고 직접 개별 분류합니다.
+ * GptService가 openai.intent.batch.enabled=true일 때만 생성해 사용합니다.
+ */
+@Slf4j
+class IntentMicroBatcher {
+
+    private final Function<List<String>, List<IntentResultDto>> batchClassifier;
+    private final Function<String, IntentResultDto> singleClassifier;
+    private final Duration window;
+    private final Duration timeout;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingRequest> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService batchExecutor;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueDelayTimer;
+    private final Counter itemFallbackCounter;
+    private final Counter timeoutCounter;
+
+    /**
+     * @param batchClassifier  여러 질문을 한 번에 분류, 결과 목록은 입력과 같은 순서이며 실패한 항목은 null
+     * @param singleClassifier 질문 하나를 분류 (배치 응답이 잘못된 항목의 대체 경로)
+     * @param timeout          배치 GPT 호출의 데드라인 (intent 프로필의 timeoutMs)
+     */
+    IntentMicroBatcher(Function<List<String>, List<IntentResultDto>> batchClassifier,
+                       Function<String, IntentResultDto> singleClassifier,
+                       Duration window, Duration timeout, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.batchClassifier = batchClassifier;
+        this.singleClassifier = singleClassifier;
+        this.window = window;
+        this.timeout = timeout;
+        this.maxBatchSize = maxBatchSize;
+
+        this.batchSizeSummary = DistributionSummary.builder("chatbot.intent.batch.size")
+                .description("한 번의 GPT 요청으로 묶인 intent 분류 요청 수")
+                .register(meterRegistry);
+        this.queueDelayTimer = Timer.builder("chatbot.intent.batch.queue-delay")
+                .description("배치가 전송되기까지 요청이 대기한 시간")
+                .register(meterRegistry);
+        this.itemFallbackCounter = Counter.builder("chatbot.intent.batch.fallback")
+                .description("배치 응답이 잘못되어 개별 분류로 재시도한 요청 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("chatbot.intent.batch.timeout")
+                .description("배치 결과를 기다리다 시간 초과로 개별 분류한 요청 수")
+                .register(meterRegistry);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.batchExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "intent-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "intent-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 요청을 큐에 넣고 배치 결과를 기다립니다.
+     * 배치가 window + timeout 안에 끝나지 않으면(배치 실행 스레드 정체 등) 이 요청을 배치에서 빼고 직접 개별 분류합니다.
+     */
+    IntentResultDto classify(String userInput) {
+        PendingRequest request = new PendingRequest(userInput);
+        queue.add(request);
+        try {
+            return request.future.get(window.plus(timeout).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 있으면 빼고, 이미 보낸 배치가 늦게 끝나더라도 취소된 future라 결과는 버려짐
+            queue.remove(request);
+            request.future.cancel(false);
+            timeoutCounter.increment();
+            log.warn("⏱️ intent 배치 결과 대기 시간 초과({}ms), 개별 분류로 대체합니다.", window.plus(timeout).toMillis());
+            return singleClassifier.apply(userInput);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new GptCallException("intent 배치 분류 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.cancel(false);
+            throw new GptCallException("intent 배치 결과 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        batchExecutor.shutdownNow();
+        PendingRequest request;
+        while ((request = queue.poll()) != null) {
+            request.future.completeExceptionally(new GptCallException("intent 배처가 종료되었습니다."));
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingRequest first = queue.take();
+                List<PendingRequest> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = first.enqueuedAt + window.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                long sentAt = System.nanoTime();
+                for (PendingRequest request : batch) {
+                    queueDelayTimer.record(sentAt - request.enqueuedAt, TimeUnit.NANOSECONDS);
+                }
+                batchSizeSummary.record(batch.size());
+                batchExecutor.execute(() -> runBatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RejectedExecutionException e) {
+                log.warn("❗ intent 배치 실행 거부: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void runBatch(List<PendingRequest> batch) {
+        if (batch.size() == 1) {
+            completeSingle(batch.get(0));
+            return;
+        }
+
+        List<IntentResultDto> results;
+        try {
+            results = batchClassifier.apply(batch.stream().map(request -> request.userInput).toList());
+        } catch (GptUnavailableException e) {
+            batch.forEach(request -> request.future.completeExceptionally(e));
+            return;
+        } catch (Exception e) {
+            log.warn("❗ intent 배치 분류 실패({}건), 개별 분류로 재시도합니다: {}", batch.size(), e.getMessage());
+            results = List.of();
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            IntentResultDto result = i < results.size() ? results.get(i) : null;
+            if (result != null) {
+                batch.get(i).future.complete(result);
+            } else {
+                itemFallbackCounter.increment();
+                completeSingle(batch.get(i));
+            }
+        }
+    }
+
+    private void completeSingle(PendingRequest request) {
+        // 호출 스레드가 기다리다 포기한 요청은 다시 분류하지 않음
+        if (request.future.isDone()) return;
+        try {
+            request.future.complete(singleClassifier.apply(request.userInput));
+        } catch (Exception e) {
+            request.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingRequest {
+        private final String userInput;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<IntentResultDto> future = new CompletableFuture<>();
+
+        private PendingRequest(String userInput) {
+            this.userInput = userInput;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.IntentResultDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.example.chatbot.util.DateTimeExtractor.DATE_EXPRESSION_PATTERN;
+import static org.example.chatbot.util.DateTimeExtractor.extractMealTime;
+
+/**
+ * GPT 호출 전에 실행되는 규칙 기반 intent 분류기입니다.
+ * 식당명/공지명/일정 용어 사전과 날짜·시간대 표현만으로 질문이 완전히 설명되는 경우에만 결과를 반환하고,
+ * 그 외의 단어(음식명, 공지 키워드 등)가 남아 있으면 null을 반환해 GPT 분류로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class LocalIntentClassifier {
+
+    // 사전 용어 → intent (긴 용어가 먼저 매칭되도록 정규식 생성 시 길이순 정렬)
+    private static final Map<String, String> INTENT_TERMS = Map.ofEntries(
+            Map.entry("학생식당", "학생식당"),
+            Map.entry("학식", "학생식당"),
+            Map.entry("건강한끼", "학생식당"),
+            Map.entry("맛난한끼", "학생식당"),
+            Map.entry("교직원식당", "교직원식당"),
+            Map.entry("기숙사식당", "기숙사식당"),
+            Map.entry("기숙사", "기숙사식당"),
+            Map.entry("긱사", "기숙사식당"),
+            Map.entry("학사공지", "학사공지"),
+            Map.entry("장학공지", "장학공지"),
+            Map.entry("한경공지", "한경공지"),
+            Map.entry("학사일정", "학사일정"),
+            Map.entry("일정", "학사일정")
+    );
+
+    private static final Pattern INTENT_PATTERN = Pattern.compile(
+            INTENT_TERMS.keySet().stream()
+                    .sorted(Comparator.comparingInt(String::length).reversed())
+                    .map(Pattern::quote)
+                    .collect(Collectors.joining("|"))
+    );
+
+    private static final Pattern MEAL_TIME_PATTERN = Pattern.compile("아침|점심|저녁");
+
+    private static final Pattern MEAL_GENERIC_PATTERN = Pattern.compile("식단|메뉴|식당");
+
+    private static final Set<String> NOTICE_INTENTS = Set.of("학사공지", "장학공지", "한경공지");
+
+    // 질문의 의미를 바꾸지 않는 일반 단어 (GptPromptBuilder에서 keyword=null로 취급하는 단어 포함)
+    private static final Pattern FILLER_PATTERN = Pattern.compile(
+            "알려\\s*주세요|알려\\s*줘|보여\\s*주세요|보여\\s*줘|궁금해요|궁금해|뭐예요|뭐에요|뭐야|뭐나와|나와요|나와|뭐" +
+                    "|있나요|있어요|있어|공지사항|공지|식단|메뉴|식당|밥|좀|관련|확인"
+    );
+
+    // 필러 제거 후 남아도 되는 조사/어미
+    private static final Pattern REMAINDER_PATTERN = Pattern.compile("[\\s\\p{Punct}？！은는이가을를에의도요]+");
+
+    private static final String UNSPECIFIED_RESTAURANT_ANSWER =
+            "어느 식당의 식단이 궁금하신가요? 학생식당, 교직원식당, 기숙사식당 중 선택해 주세요.";
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LocalIntentClassifier(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("chatbot.intent.local")
+                .description("규칙 기반 intent 분류 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chatbot.intent.local")
+                .description("규칙 기반 intent 분류 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사전과 날짜/시간대 신호만으로 intent를 확정할 수 있으면 결과를 반환합니다.
+     *
+     * @param userInput 사용자 질문
+     * @return 확정된 intent 결과, 확신할 수 없으면 null
+     */
+    public IntentResultDto classify(String userInput) {
+        IntentResultDto result = userInput == null ? null : match(userInput);
+        if (result != null) {
+            hitCounter.increment();
+            log.debug("⚡ 규칙 기반 intent 분류 성공: {} → {}", userInput, result.getIntent());
+        } else {
+            missCounter.increment();
+        }
+        return result;
+    }
+
+    /**
+     * GPT를 사용할 수 없을 때(서킷 open 등) 사용하는 축소 분류입니다.
+     * 사전에 매칭되는 intent가 하나면 그 intent로, 남은 단어는 keyword로 간주합니다.
+     *
+     * @param userInput 사용자 질문
+     * @return 항상 결과를 반환하며, 판단할 수 없으면 intent는 "없음"
+     */
+    public IntentResultDto classifyDegraded(String userInput) {
+        if (userInput == null) return new IntentResultDto("없음", null, null);
+
+        IntentResultDto confident = match(userInput);
+        if (confident != null) return confident;
+
+        Set<String> intents = new HashSet<>();
+        Matcher matcher = INTENT_PATTERN.matcher(userInput);
+        while (matcher.find()) {
+            intents.add(INTENT_TERMS.get(matcher.group()));
+        }
+
+        // GPT 경로와 동일하게 '일정'이 포함되면 학사일정 우선
+        String intent;
+        if (intents.contains("학사일정")) {
+            intent = "학사일정";
+        } else if (intents.size() == 1) {
+            intent = intents.iterator().next();
+        } else if (userInput.contains("식당")) {
+            return new IntentResultDto("식당 미지정", null, UNSPECIFIED_RESTAURANT_ANSWER);
+        } else {
+            return new IntentResultDto("없음", null, null);
+        }
+
+        return new IntentResultDto(intent, extractRemainingKeyword(userInput), null);
+    }
+
+    private String extractRemainingKeyword(String userInput) {
+        String remainder = INTENT_PATTERN.matcher(userInput).replaceAll(" ");
+        remainder = DATE_EXPRESSION_PATTERN.matcher(remainder).replaceAll(" ");
+        remainder = MEAL_TIME_PATTERN.matcher(remainder).replaceAll(" ");
+        remainder = FILLER_PATTERN.matcher(remainder).replaceAll(" ");
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : remainder.split("[\\s\\p{Punct}？！]+")) {
+            String trimmed = token.replaceAll("[은는이가을를에의도요]+$", "");
+            if (!trimmed.isEmpty()) tokens.add(trimmed);
+        }
+        return tokens.isEmpty() ? null : String.join(" ", tokens);
+    }
+
+    private IntentResultDto match(String userInput) {
+        Set<String> intents = new HashSet<>();
+        Matcher matcher = INTENT_PATTERN.matcher(userInput);
+        while (matcher.find()) {
+            intents.add(INTENT_TERMS.get(matcher.group()));
+        }
+        if (intents.size() > 1) return null;
+
+        String mealTime = extractMealTime(userInput);
+        String intent = intents.isEmpty() ? null : intents.iterator().next();
+
+        // 건강한끼/맛난한끼는 학생식당에만 있는 시간대
+        if (("건강한끼".equals(mealTime) || "맛난한끼".equals(mealTime)) && !"학생식당".equals(intent)) {
+            return null;
+        }
+
+        // "기숙사 공지"처럼 공지를 묻는데 공지 종류가 아닌 용어만 매칭되면 GPT로 넘김
+        if (userInput.contains("공지") && (intent == null || !NOTICE_INTENTS.contains(intent))) return null;
+
+        if (!isFullyExplained(userInput)) return null;
+
+        if (intent != null) {
+            return new IntentResultDto(intent, null, null);
+        }
+
+        if (MEAL_GENERIC_PATTERN.matcher(userInput).find()) {
+            return new IntentResultDto("식당 미지정", null, UNSPECIFIED_RESTAURANT_ANSWER);
+        }
+        return null;
+    }
+
+    private boolean isFullyExplained(String userInput) {
+        String remainder = INTENT_PATTERN.matcher(userInput).replaceAll(" ");
+        remainder = DATE_EXPRESSION_PATTERN.matcher(remainder).replaceAll(" ");
+        remainder = MEAL_TIME_PATTERN.matcher(remainder).replaceAll(" ");
+        remainder = FILLER_PATTERN.matcher(remainder).replaceAll(" ");
+        return REMAINDER_PATTERN.matcher(remainder).replaceAll("").isEmpty();
+    }
+}
@@ -0,0 +1,306 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.domain.DormMeal;
+import org.example.chatbot.domain.FacultyMeal;
+import org.example.chatbot.domain.StudentMeal;
+import org.example.chatbot.dto.MealSnapshotStatsDto;
+import org.example.chatbot.repository.DormMealRepository;
+import org.example.chatbot.repository.FacultyMealRepository;
+import org.example.chatbot.repository.StudentMealRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 학생/교직원/기숙사 식단의 읽기 전용 메모리 스냅샷입니다. 식단 질문은 MySQL을 거치지 않고 이 스냅샷으로 답합니다.
+ * 식당별로 날짜 → 식단 목록의 NavigableMap을 두고, 식단은 시간대 라벨/시간 범위/출력 블록(학생·교직원)과
+ * [아침]/[점심]/[저녁] 구역(기숙사)을 미리 나눠 둡니다.
+ * 테이블 지문(행 수, 최대 id, 해시 합, 기숙사는 포맷팅 결과 합)이 바뀌면 새 스냅샷을 만들어 한 번에 교체하며,
+ * 스냅샷을 아직 만들지 못했으면 요청 기간만 DB에서 읽어 같은 형태로 답합니다.
+ * 스냅샷을 교체하면 식당별로 내용이 바뀐 날짜만 골라 답변 캐시(RenderedAnswerCache)에서 무효화합니다.
+ */
+@Slf4j
+@Component
+public class MealSnapshotStore {
+
+    public static final String STUDENT = "학생식당";
+    public static final String FACULTY = "교직원식당";
+    public static final String DORM = "기숙사식당";
+
+    private static final List<String> CAFETERIAS = List.of(STUDENT, FACULTY, DORM);
+
+    /**
+     * 미리 가공한 식단 한 건입니다.
+     *
+     * @param timeLabel       시간대 라벨 (예: 건강한끼, 점심), 기숙사는 null
+     * @param normalizedLabel 공백을 제거한 시간대 라벨 (학생식당 시간대 비교용)
+     * @param timeRange       시간 범위 (예: 11:30~13:30)
+     * @param menu            메뉴 원문 (기숙사는 포맷팅 결과가 있으면 포맷팅 결과)
+     * @param block           출력용 블록 ("[라벨] 시간\n- 메뉴..."), 기숙사는 null
+     * @param sections        기숙사 메뉴의 [시간대] 구역별 내용, 그 외 빈 맵
+     */
+    public record MealEntry(String timeLabel, String normalizedLabel, String timeRange, String menu,
+                            String block, Map<String, String> sections) {
+    }
+
+    private final StudentMealRepository studentMealRepository;
+    private final FacultyMealRepository facultyMealRepository;
+    private final DormMealRepository dormMealRepository;
+    private final RenderedAnswerCache renderedAnswerCache;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private volatile String fingerprint;
+
+    public MealSnapshotStore(StudentMealRepository studentMealRepository,
+                             FacultyMealRepository facultyMealRepository,
+                             DormMealRepository dormMealRepository,
+                             RenderedAnswerCache renderedAnswerCache,
+                             MeterRegistry meterRegistry) {
+        this.studentMealRepository = studentMealRepository;
+        this.facultyMealRepository = facultyMealRepository;
+        this.dormMealRepository = dormMealRepository;
+        this.renderedAnswerCache = renderedAnswerCache;
+
+        for (String cafeteria : CAFETERIAS) {
+            Gauge.builder("chatbot.meal-snapshot.bytes", this, store -> store.stats(cafeteria).getEstimatedBytes())
+                    .description("식단 스냅샷의 추정 메모리 사용량 (Compact Strings 기준)")
+                    .baseUnit("bytes")
+                    .tag("cafeteria", cafeteria)
+                    .register(meterRegistry);
+            Gauge.builder("chatbot.meal-snapshot.bytes-per-year", this, store -> store.stats(cafeteria).getBytesPerYear())
+                    .description("식단 1년치를 보관하는 데 드는 추정 메모리")
+                    .baseUnit("bytes")
+                    .tag("cafeteria", cafeteria)
+                    .register(meterRegistry);
+            Gauge.builder("chatbot.meal-snapshot.days", this, store -> store.stats(cafeteria).getDays())
+                    .description("식단 스냅샷에 담긴 날짜 수")
+                    .tag("cafeteria", cafeteria)
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshIfChanged();
+    }
+
+    /**
+     * 식단 테이블이 바뀌었으면 스냅샷을 다시 만듭니다. (크롤러 적재 반영, 기숙사 식단 포맷팅 후에도 호출)
+     */
+    @Scheduled(initialDelayString = "${chatbot.meal-snapshot.refresh-interval-ms:300000}",
+            fixedDelayString = "${chatbot.meal-snapshot.refresh-interval-ms:300000}")
+    public void refreshIfChanged() {
+        if (!refreshLock.tryLock()) return;
+        try {
+            String current = studentMealRepository.fingerprint() + "/" + facultyMealRepository.fingerprint()
+                    + "/" + dormMealRepository.fingerprint();
+            if (current.equals(fingerprint)) return;
+
+            Snapshot next = new Snapshot(Map.of(
+                    STUDENT, indexStudentMeals(studentMealRepository.findAll()),
+                    FACULTY, indexFacultyMeals(facultyMealRepository.findAll()),
+                    DORM, indexDormMeals(dormMealRepository.findAll())));
+            Snapshot previous = snapshot;
+            snapshot = next;
+            fingerprint = current;
+            if (previous != null) {
+                for (String cafeteria : CAFETERIAS) {
+                    renderedAnswerCache.invalidate(cafeteria,
+                            changedDates(previous.byCafeteria.get(cafeteria), next.byCafeteria.get(cafeteria)));
+                }
+            }
+            log.info("🍱 식단 스냅샷 갱신: {}", CAFETERIAS.stream()
+                    .map(next::stats)
+                    .map(MealSnapshotStatsDto::summary)
+                    .collect(Collectors.joining(", ")));
+        } catch (RuntimeException e) {
+            log.warn("❗ 식단 스냅샷 갱신 실패, 이전 스냅샷을 유지합니다: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 식당의 [startDate, endDate] 기간 식단을 날짜순으로 반환합니다.
+     */
+    public NavigableMap<LocalDate, List<MealEntry>> range(String cafeteria, LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot;
+        NavigableMap<LocalDate, List<MealEntry>> days = current != null
+                ? current.byCafeteria.get(cafeteria)
+                : loadRange(cafeteria, startDate, endDate);
+        if (days == null) return Collections.emptyNavigableMap();
+        return days.subMap(startDate, true, endDate, true);
+    }
+
+    /**
+     * 스냅샷이 만들어져 있는지 여부입니다. (없으면 조회 시 DB를 읽음)
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * 식당별 스냅샷 크기와 추정 메모리 사용량입니다.
+     */
+    public List<MealSnapshotStatsDto> stats() {
+        return CAFETERIAS.stream().map(this::stats).toList();
+    }
+
+    private MealSnapshotStatsDto stats(String cafeteria) {
+        Snapshot current = snapshot;
+        return current != null ? current.stats(cafeteria) : new MealSnapshotStatsDto(cafeteria, 0, 0, 0);
+    }
+
+    // 두 스냅샷 사이에 식단이 추가/변경/삭제된 날짜
+    private static NavigableSet<LocalDate> changedDates(NavigableMap<LocalDate, List<MealEntry>> before,
+                                                        NavigableMap<LocalDate, List<MealEntry>> after) {
+        NavigableSet<LocalDate> dates = new TreeSet<>(before.keySet());
+        dates.addAll(after.keySet());
+        dates.removeIf(date -> Objects.equals(before.get(date), after.get(date)));
+        return dates;
+    }
+
+    // 스냅샷이 아직 없을 때만 사용 (요청 기간만 조회)
+    private NavigableMap<LocalDate, List<MealEntry>> loadRange(String cafeteria, LocalDate startDate, LocalDate endDate) {
+        return switch (cafeteria) {
+            case STUDENT -> indexStudentMeals(
+                    studentMealRepository.findByMealDateBetweenOrderByMealDateAscIdAsc(startDate, endDate));
+            case FACULTY -> indexFacultyMeals(
+                    facultyMealRepository.findByMealDateBetweenOrderByMealDateAscIdAsc(startDate, endDate));
+            case DORM -> indexDormMeals(
+                    dormMealRepository.findByMealDateBetweenOrderByMealDateAscIdAsc(startDate, endDate));
+            default -> null;
+        };
+    }
+
+    private NavigableMap<LocalDate, List<MealEntry>> indexStudentMeals(List<StudentMeal> meals) {
+        NavigableMap<LocalDate, List<MealEntry>> days = new TreeMap<>();
+        meals.stream()
+                .filter(meal -> meal.getMenu() != null && meal.getMealDate() != null && meal.getMealTime() != null)
+                .sorted(Comparator.comparing(StudentMeal::getId))
+                .forEach(meal -> days.computeIfAbsent(meal.getMealDate(), date -> new ArrayList<>())
+                        .add(timedEntry(meal.getMealTime(), meal.getMenu())));
+        return freeze(days);
+    }
+
+    private NavigableMap<LocalDate, List<MealEntry>> indexFacultyMeals(List<FacultyMeal> meals) {
+        NavigableMap<LocalDate, List<MealEntry>> days = new TreeMap<>();
+        meals.stream()
+                .filter(meal -> meal.getMenu() != null && meal.getMealDate() != null && meal.getMealTime() != null)
+                .sorted(Comparator.comparing(FacultyMeal::getId))
+                .forEach(meal -> days.computeIfAbsent(meal.getMealDate(), date -> new ArrayList<>())
+                        .add(timedEntry(meal.getMealTime(), meal.getMenu())));
+        return freeze(days);
+    }
+
+    private NavigableMap<LocalDate, List<MealEntry>> indexDormMeals(List<DormMeal> meals) {
+        NavigableMap<LocalDate, List<MealEntry>> days = new TreeMap<>();
+        meals.stream()
+                .sorted(Comparator.comparing(DormMeal::getId))
+                .forEach(meal -> {
+                    String menu = meal.getFormattedMenu() != null ? meal.getFormattedMenu() : meal.getMenu();
+                    if (meal.getMealDate() == null || menu == null || menu.isBlank()) return;
+                    days.computeIfAbsent(meal.getMealDate(), date -> new ArrayList<>())
+                            .add(new MealEntry(null, null, null, menu, null, sections(menu)));
+                });
+        return freeze(days);
+    }
+
+    // mealTime 예: "건강한끼(11:30~13:30)" → 라벨 "건강한끼", 시간 "11:30~13:30"
+    private MealEntry timedEntry(String mealTime, String menu) {
+        int open = mealTime.indexOf('(');
+        int close = mealTime.indexOf(')');
+        String timeLabel = open != -1 ? mealTime.substring(0, open).trim() : mealTime.trim();
+        String timeRange = (open != -1 && close != -1) ? mealTime.substring(open + 1, close).trim() : "";
+        String block = String.format("[%s] %s\n%s", timeLabel, timeRange,
+                Arrays.stream(menu.split("\n")).map(line -> "- " + line).collect(Collectors.joining("\n")));
+        return new MealEntry(timeLabel, normalizeKorean(timeLabel), timeRange, menu, block, Map.of());
+    }
+
+    // "[아침] ... [점심] ..." 형태를 구역별로 나눔 (같은 구역이 여러 번 나오면 처음 것을 사용)
+    private Map<String, String> sections(String menu) {
+        Map<String, String> sections = new HashMap<>();
+        int open = menu.indexOf('[');
+        while (open != -1) {
+            int close = menu.indexOf(']', open + 1);
+            if (close == -1) break;
+            int next = menu.indexOf('[', close + 1);
+            String label = menu.substring(open + 1, close);
+            String section = menu.substring(close + 1, next != -1 ? next : menu.length()).trim();
+            sections.putIfAbsent(label, section);
+            open = next;
+        }
+        return Map.copyOf(sections);
+    }
+
+    private NavigableMap<LocalDate, List<MealEntry>> freeze(NavigableMap<LocalDate, List<MealEntry>> days) {
+        days.replaceAll((date, entries) -> List.copyOf(entries));
+        return Collections.unmodifiableNavigableMap(days);
+    }
+
+    private static String normalizeKorean(String s) {
+        return s == null ? "" : s.replaceAll("\\s+", "").replaceAll("\\u200B", "").trim();
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, NavigableMap<LocalDate, List<MealEntry>>> byCafeteria;
+        private final Map<String, MealSnapshotStatsDto> stats;
+
+        private Snapshot(Map<String, NavigableMap<LocalDate, List<MealEntry>>> byCafeteria) {
+            this.byCafeteria = byCafeteria;
+            Map<String, MealSnapshotStatsDto> computed = new HashMap<>();
+            byCafeteria.forEach((cafeteria, days) -> computed.put(cafeteria, measure(cafeteria, days)));
+            this.stats = Map.copyOf(computed);
+        }
+
+        private MealSnapshotStatsDto stats(String cafeteria) {
+            return stats.getOrDefault(cafeteria, new MealSnapshotStatsDto(cafeteria, 0, 0, 0));
+        }
+
+        // 64비트 JVM(compressed oops) 기준 추정치: 객체 헤더, 필드, 배열, 문자열(estimatedStringBytes)을 더함
+        private static MealSnapshotStatsDto measure(String cafeteria, NavigableMap<LocalDate, List<MealEntry>> days) {
+            long bytes = 0;
+            int entries = 0;
+            for (List<MealEntry> dayEntries : days.values()) {
+                bytes += 40 + 24 + 16 + 4L * dayEntries.size(); // TreeMap 엔트리 + LocalDate + 리스트
+                for (MealEntry entry : dayEntries) {
+                    entries++;
+                    bytes += 32 + estimatedStringBytes(entry.timeLabel()) + estimatedStringBytes(entry.normalizedLabel())
+                            + estimatedStringBytes(entry.timeRange()) + estimatedStringBytes(entry.menu())
+                            + estimatedStringBytes(entry.block());
+                    bytes += 16 + 8L * entry.sections().size();
+                    for (Map.Entry<String, String> section : entry.sections().entrySet()) {
+                        bytes += estimatedStringBytes(section.getKey()) + estimatedStringBytes(section.getValue());
+                    }
+                }
+            }
+            return new MealSnapshotStatsDto(cafeteria, days.size(), entries, bytes);
+        }
+    }
+
+    /**
+     * 문자열 하나의 추정 메모리입니다. (String 객체 24바이트 + byte[] 헤더 16바이트 + 내용, 8바이트 정렬)
+     * Compact Strings 기준이라 모든 문자가 Latin-1이면 문자당 1바이트, 한글처럼 하나라도 Latin-1 밖이면 문자당 2바이트(UTF-16)입니다.
+     */
+    static long estimatedStringBytes(String value) {
+        if (value == null) return 0;
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        long payload = latin1 ? value.length() : 2L * value.length();
+        return 24 + align(16 + payload);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
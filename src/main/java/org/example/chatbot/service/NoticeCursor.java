@@ -0,0 +1,57 @@
+package org.example.chatbot.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 공지사항 답변의 "더 보기" 위치입니다. 마지막으로 보여준 공지의 (게시일, id) 다음부터 keyset 방식으로 이어서 조회합니다.
+ * 토큰은 조건과 위치를 줄 단위로 이어 붙인 뒤 URL-safe Base64로 인코딩한 문자열입니다.
+ *
+ * @param intent            공지 intent (학사공지, 장학공지, 한경공지)
+ * @param keyword           제목 키워드, 없으면 null
+ * @param startDate         요청 기간 시작일
+ * @param endDate           요청 기간 종료일
+ * @param dateFilterApplied 질문에 날짜 표현이 있었는지 여부
+ * @param otherDates        요청 기간 밖(올해 다른 날짜) 공지 목록을 넘기는 중인지 여부
+ * @param lastDate          마지막으로 보여준 공지의 게시일
+ * @param lastId            마지막으로 보여준 공지의 id
+ */
+public record NoticeCursor(String intent, String keyword, LocalDate startDate, LocalDate endDate,
+                           boolean dateFilterApplied, boolean otherDates, LocalDate lastDate, long lastId) {
+
+    private static final int FIELD_COUNT = 8;
+
+    /**
+     * (lastDate, lastId)보다 오래된(최신순으로 뒤에 오는) 공지인지 여부입니다.
+     */
+    public boolean isBefore(NoticeTitleIndex.Notice notice) {
+        int byDate = notice.noticeDate().compareTo(lastDate);
+        return byDate < 0 || (byDate == 0 && notice.id() < lastId);
+    }
+
+    public String encode() {
+        String raw = String.join("\n", intent, keyword != null ? keyword.replace("\n", " ") : "",
+                startDate.toString(), endDate.toString(), String.valueOf(dateFilterApplied), String.valueOf(otherDates),
+                lastDate.toString(), String.valueOf(lastId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석합니다. 형식이 맞지 않으면 null을 반환합니다.
+     */
+    public static NoticeCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] fields = raw.split("\n", -1);
+            if (fields.length != FIELD_COUNT) return null;
+            return new NoticeCursor(fields[0], fields[1].isEmpty() ? null : fields[1],
+                    LocalDate.parse(fields[2]), LocalDate.parse(fields[3]),
+                    Boolean.parseBoolean(fields[4]), Boolean.parseBoolean(fields[5]),
+                    LocalDate.parse(fields[6]), Long.parseLong(fields[7]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.config.SearchMode;
+import org.example.chatbot.dto.NoticeIndexStatsDto;
+import org.example.chatbot.repository.AcademicNoticeRepository;
+import org.example.chatbot.repository.HankyongNoticeRepository;
+import org.example.chatbot.repository.ScholarshipNoticeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * 학사/장학/한경 공지사항 제목의 메모리 문자 bigram 역색인입니다. 공지 intent의 제목 검색은 LIKE '%키워드%' 대신 이 색인으로 답합니다.
+ * - 제목의 연속한 두 글자를 int 하나로 묶어 키로 쓰고, 포스팅은 문서 번호(id 순 위치)의 정렬된 int[]로 둡니다.
+ * - 키워드의 bigram 포스팅을 짧은 것부터 교집합한 뒤 제목에 키워드가 실제로 들어 있는지 확인합니다. (한 글자 키워드는 전체 확인)
+ * - 게시일 최신순(게시일, id 내림차순) 문서 번호 배열을 함께 두어, 키워드 없는 기간 조회는 이진 탐색 후 앞에서부터 K건만 읽습니다.
+ * 새로 적재된 공지는 마지막으로 반영한 id 이후만 읽어 바뀐 포스팅만 복사한 새 색인으로 교체하고,
+ * 반영 후 테이블 지문(행 수, 최대 id, 해시 합)이 맞지 않으면(수정/삭제) 전체를 다시 만듭니다.
+ * 색인을 교체한 게시판의 답변 캐시(RenderedAnswerCache)는 비웁니다.
+ * chatbot.search.mode=fulltext면 색인을 만들지 않고 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+public class NoticeTitleIndex {
+
+    public static final String ACADEMIC = "학사공지";
+    public static final String SCHOLARSHIP = "장학공지";
+    public static final String HANKYONG = "한경공지";
+
+    private static final List<String> BOARDS = List.of(ACADEMIC, SCHOLARSHIP, HANKYONG);
+
+    /**
+     * 색인된 공지사항 한 건입니다.
+     */
+    public record Notice(long id, LocalDate noticeDate, String title) {
+    }
+
+    /**
+     * 게시일 최신순 정렬 (게시일, id 내림차순)
+     */
+    public static final Comparator<Notice> NEWEST_FIRST = Comparator.comparing(Notice::noticeDate)
+            .thenComparingLong(Notice::id)
+            .reversed();
+
+    private final Map<String, NoticeSource<?>> sources = new HashMap<>();
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<String, Timer> queryTimers = new HashMap<>();
+    private final RenderedAnswerCache renderedAnswerCache;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final boolean enabled;
+
+    public NoticeTitleIndex(AcademicNoticeRepository academicNoticeRepository,
+                            ScholarshipNoticeRepository scholarshipNoticeRepository,
+                            HankyongNoticeRepository hankyongNoticeRepository,
+                            RenderedAnswerCache renderedAnswerCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${chatbot.search.mode:like}") SearchMode searchMode) {
+        this.enabled = searchMode != SearchMode.FULLTEXT;
+        this.renderedAnswerCache = renderedAnswerCache;
+        sources.put(ACADEMIC, new NoticeSource<>(academicNoticeRepository::fingerprint,
+                academicNoticeRepository::findByIdGreaterThanOrderByIdAsc, academicNoticeRepository::findAll,
+                academicNoticeRepository::findByTitleContaining, academicNoticeRepository::findPageByNoticeDate,
+                notice -> new Row(new Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()), notice.getHash())));
+        sources.put(SCHOLARSHIP, new NoticeSource<>(scholarshipNoticeRepository::fingerprint,
+                scholarshipNoticeRepository::findByIdGreaterThanOrderByIdAsc, scholarshipNoticeRepository::findAll,
+                scholarshipNoticeRepository::findByTitleContaining, scholarshipNoticeRepository::findPageByNoticeDate,
+                notice -> new Row(new Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()), notice.getHash())));
+        sources.put(HANKYONG, new NoticeSource<>(hankyongNoticeRepository::fingerprint,
+                hankyongNoticeRepository::findByIdGreaterThanOrderByIdAsc, hankyongNoticeRepository::findAll,
+                hankyongNoticeRepository::findByTitleContaining, hankyongNoticeRepository::findPageByNoticeDate,
+                notice -> new Row(new Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()), notice.getHash())));
+
+        for (String board : BOARDS) {
+            queryTimers.put(board, Timer.builder("chatbot.notice-index.query")
+                    .description("공지사항 제목 색인 검색 시간")
+                    .tag("board", board)
+                    .register(meterRegistry));
+            Gauge.builder("chatbot.notice-index.documents", this, index -> index.stats(board).getDocuments())
+                    .description("공지사항 제목 색인의 문서 수")
+                    .tag("board", board)
+                    .register(meterRegistry);
+            Gauge.builder("chatbot.notice-index.bytes", this, index -> index.stats(board).getEstimatedBytes())
+                    .description("공지사항 제목 색인의 추정 메모리 사용량")
+                    .baseUnit("bytes")
+                    .tag("board", board)
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 새로 적재된 공지를 색인에 반영합니다. 검색 중인 요청은 이전 색인을 끝까지 사용합니다.
+     */
+    @Scheduled(initialDelayString = "${chatbot.notice-index.refresh-interval-ms:60000}",
+            fixedDelayString = "${chatbot.notice-index.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled || !refreshLock.tryLock()) return;
+        try {
+            for (String board : BOARDS) {
+                refreshBoard(board);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshBoard(String board) {
+        NoticeSource<?> source = sources.get(board);
+        try {
+            String current = source.fingerprint().get();
+            Board existing = boards.get(board);
+            if (existing != null && current.equals(existing.fingerprint())) return;
+
+            if (existing != null) {
+                List<Row> added = source.newerRows(existing.maxId);
+                Board appended = existing.append(added);
+                if (appended.fingerprint().equals(source.fingerprint().get())) {
+                    boards.put(board, appended);
+                    renderedAnswerCache.invalidate(board);
+                    log.info("🔎 [{}] 제목 색인 증분 반영: {}건 추가 (전체 {}건)", board, added.size(), appended.docs.length);
+                    return;
+                }
+            }
+
+            List<Row> rows = new ArrayList<>(source.allRows());
+            rows.sort(Comparator.comparingLong(row -> row.notice().id()));
+            Board rebuilt = Board.EMPTY.append(rows);
+            boards.put(board, rebuilt);
+            renderedAnswerCache.invalidate(board);
+            log.info("🔎 [{}] 제목 색인 전체 재구성: {}", board, rebuilt.stats(board, queryTimers.get(board)).summary());
+        } catch (RuntimeException e) {
+            log.warn("❗ [{}] 제목 색인 갱신 실패, 이전 색인을 유지합니다: {}", board, e.getMessage());
+        }
+    }
+
+    /**
+     * 게시판 색인이 만들어져 있는지 여부입니다. (없으면 조회 시 DB를 읽음)
+     */
+    public boolean isLoaded(String board) {
+        return boards.containsKey(board);
+    }
+
+    /**
+     * 제목에 keyword를 포함한 공지를 id 순으로 반환합니다. keyword가 없으면 전체를 반환합니다.
+     * 색인을 아직 만들지 못했으면 DB에서 조회합니다.
+     */
+    public List<Notice> search(String board, String keyword) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        Board current = boards.get(board);
+        if (current == null) {
+            NoticeSource<?> source = sources.get(board);
+            if (source == null) return List.of();
+            List<Row> rows = hasKeyword ? source.rowsContaining(keyword) : source.allRows();
+            return rows.stream().map(Row::notice).toList();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return hasKeyword ? current.search(keyword) : List.of(current.docs);
+        } finally {
+            queryTimers.get(board).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * [startDate, endDate] 기간의 공지를 최신순으로 최대 limit건 반환합니다. after가 있으면 그 위치 다음부터입니다.
+     * 색인을 아직 만들지 못했으면 DB에서 (notice_date, id) keyset으로 조회합니다.
+     */
+    public List<Notice> recent(String board, LocalDate startDate, LocalDate endDate, NoticeCursor after, int limit) {
+        LocalDate lastDate = after != null ? after.lastDate() : endDate.plusDays(1);
+        long lastId = after != null ? after.lastId() : Long.MAX_VALUE;
+
+        Board current = boards.get(board);
+        if (current == null) {
+            NoticeSource<?> source = sources.get(board);
+            if (source == null) return List.of();
+            return source.pageRows(startDate, endDate, lastDate, lastId, limit).stream().map(Row::notice).toList();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return current.recent(startDate, endDate, lastDate, lastId, limit);
+        } finally {
+            queryTimers.get(board).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 게시판별 색인 크기와 검색 시간입니다.
+     */
+    public List<NoticeIndexStatsDto> stats() {
+        return BOARDS.stream().map(this::stats).toList();
+    }
+
+    private NoticeIndexStatsDto stats(String board) {
+        Board current = boards.get(board);
+        return (current != null ? current : Board.EMPTY).stats(board, queryTimers.get(board));
+    }
+
+    // 두 글자를 int 하나로 묶은 bigram 키
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private record Row(Notice notice, String hash) {
+    }
+
+    // (notice_date, id) < (lastDate, lastId)인 기간 안의 공지를 최신순으로 조회
+    @FunctionalInterface
+    private interface KeysetQuery<T> {
+        List<T> find(LocalDate startDate, LocalDate endDate, LocalDate lastDate, Long lastId, Limit limit);
+    }
+
+    private record NoticeSource<T>(Supplier<String> fingerprint,
+                                   Function<Long, List<T>> newer,
+                                   Supplier<List<T>> all,
+                                   Function<String, List<T>> containing,
+                                   KeysetQuery<T> page,
+                                   Function<T, Row> mapper) {
+
+        List<Row> newerRows(long id) {
+            return newer.apply(id).stream().map(mapper).toList();
+        }
+
+        List<Row> allRows() {
+            return all.get().stream().map(mapper).toList();
+        }
+
+        List<Row> rowsContaining(String keyword) {
+            return containing.apply(keyword).stream().map(mapper).toList();
+        }
+
+        List<Row> pageRows(LocalDate startDate, LocalDate endDate, LocalDate lastDate, long lastId, int limit) {
+            return page.find(startDate, endDate, lastDate, lastId, Limit.of(limit)).stream().map(mapper).toList();
+        }
+    }
+
+    private static final class Board {
+
+        private static final Board EMPTY = new Board(new Notice[0], Map.of(), new int[0], 0, 0);
+
+        // 문서 번호 = 배열 위치 (id 순)
+        private final Notice[] docs;
+        private final Map<Integer, int[]> postings;
+        // 게시일이 있는 문서 번호를 게시일 최신순으로 정렬한 배열
+        private final int[] newest;
+        private final long maxId;
+        // MySQL CRC32(hash) 합과 같은 값
+        private final long hashChecksum;
+
+        private Board(Notice[] docs, Map<Integer, int[]> postings, int[] newest, long maxId, long hashChecksum) {
+            this.docs = docs;
+            this.postings = postings;
+            this.newest = newest;
+            this.maxId = maxId;
+            this.hashChecksum = hashChecksum;
+        }
+
+        // fingerprint() 네이티브 쿼리와 같은 형식
+        private String fingerprint() {
+            return docs.length + ":" + maxId + ":" + hashChecksum;
+        }
+
+        // 추가된 문서의 bigram 포스팅만 새 배열로 복사하고 나머지 포스팅은 공유
+        private Board append(List<Row> rows) {
+            if (rows.isEmpty()) return this;
+
+            Notice[] nextDocs = Arrays.copyOf(docs, docs.length + rows.size());
+            Map<Integer, int[]> added = new HashMap<>();
+            Map<Integer, Integer> addedSizes = new HashMap<>();
+            long nextMaxId = maxId;
+            long nextChecksum = hashChecksum;
+            CRC32 crc = new CRC32();
+
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                int doc = docs.length + i;
+                nextDocs[doc] = row.notice();
+                nextMaxId = Math.max(nextMaxId, row.notice().id());
+                if (row.hash() != null) {
+                    crc.reset();
+                    crc.update(row.hash().getBytes(StandardCharsets.UTF_8));
+                    nextChecksum += crc.getValue();
+                }
+
+                for (int key : distinctBigrams(row.notice().title())) {
+                    int size = addedSizes.getOrDefault(key, 0);
+                    int[] list = added.get(key);
+                    if (list == null) list = new int[4];
+                    else if (list.length == size) list = Arrays.copyOf(list, size * 2);
+                    list[size] = doc;
+                    added.put(key, list);
+                    addedSizes.put(key, size + 1);
+                }
+            }
+
+            Map<Integer, int[]> nextPostings = new HashMap<>(postings);
+            for (Map.Entry<Integer, int[]> entry : added.entrySet()) {
+                int[] previous = nextPostings.getOrDefault(entry.getKey(), new int[0]);
+                int size = addedSizes.get(entry.getKey());
+                int[] merged = Arrays.copyOf(previous, previous.length + size);
+                System.arraycopy(entry.getValue(), 0, merged, previous.length, size);
+                nextPostings.put(entry.getKey(), merged);
+            }
+            return new Board(nextDocs, nextPostings, mergeNewest(nextDocs, docs.length), nextMaxId, nextChecksum);
+        }
+
+        // 기존 최신순 배열과 새로 추가된 문서(from 이후)를 정렬해 병합
+        private int[] mergeNewest(Notice[] nextDocs, int from) {
+            int[] added = IntStream.range(from, nextDocs.length)
+                    .filter(doc -> nextDocs[doc].noticeDate() != null)
+                    .boxed()
+                    .sorted((a, b) -> NEWEST_FIRST.compare(nextDocs[a], nextDocs[b]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            int[] merged = new int[newest.length + added.length];
+            int i = 0, j = 0, k = 0;
+            while (i < newest.length && j < added.length) {
+                merged[k++] = NEWEST_FIRST.compare(nextDocs[newest[i]], nextDocs[added[j]]) <= 0 ? newest[i++] : added[j++];
+            }
+            while (i < newest.length) merged[k++] = newest[i++];
+            while (j < added.length) merged[k++] = added[j++];
+            return merged;
+        }
+
+        private List<Notice> recent(LocalDate startDate, LocalDate endDate, LocalDate lastDate, long lastId, int limit) {
+            // 최신순 배열에서 (게시일 <= endDate) 그리고 (게시일, id) < (lastDate, lastId)를 처음 만족하는 위치
+            int lo = 0, hi = newest.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                Notice notice = docs[newest[mid]];
+                boolean before = !notice.noticeDate().isAfter(endDate) && (notice.noticeDate().isBefore(lastDate)
+                        || (notice.noticeDate().equals(lastDate) && notice.id() < lastId));
+                if (before) hi = mid;
+                else lo = mid + 1;
+            }
+
+            List<Notice> result = new ArrayList<>(Math.min(limit, newest.length - lo));
+            for (int i = lo; i < newest.length && result.size() < limit; i++) {
+                Notice notice = docs[newest[i]];
+                if (notice.noticeDate().isBefore(startDate)) break;
+                result.add(notice);
+            }
+            return result;
+        }
+
+        private List<Notice> search(String keyword) {
+            if (keyword.length() < 2) return scan(keyword);
+
+            int[][] lists = new int[keyword.length() - 1][];
+            for (int i = 0; i < lists.length; i++) {
+                int[] list = postings.get(bigram(keyword.charAt(i), keyword.charAt(i + 1)));
+                if (list == null) return List.of();
+                lists[i] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+            // 포스팅 배열은 색인과 공유하므로 교집합은 복사본에 채움
+            int[] candidates = lists.length > 1 ? lists[0].clone() : lists[0];
+            int size = candidates.length;
+            for (int i = 1; i < lists.length && size > 0; i++) {
+                size = intersect(candidates, size, lists[i]);
+            }
+
+            List<Notice> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Notice notice = docs[candidates[i]];
+                // bigram이 모두 있어도 연속하지 않을 수 있으므로 실제 포함 여부 확인 (두 글자 키워드는 그대로 일치)
+                if (keyword.length() == 2 || notice.title().contains(keyword)) result.add(notice);
+            }
+            return result;
+        }
+
+        private List<Notice> scan(String keyword) {
+            List<Notice> result = new ArrayList<>();
+            for (Notice notice : docs) {
+                if (notice.title() != null && notice.title().contains(keyword)) result.add(notice);
+            }
+            return result;
+        }
+
+        private NoticeIndexStatsDto stats(String board, Timer timer) {
+            long postingCount = 0;
+            for (int[] list : postings.values()) postingCount += list.length;
+
+            // 압축 oops 기준 추정: 문서(레코드 + LocalDate + UTF-16 제목) + 포스팅(HashMap 엔트리 + Integer 키 + int[]) + 최신순 배열
+            long bytes = 16L + 4L * docs.length;
+            for (Notice notice : docs) {
+                bytes += 32 + 24;
+                if (notice.title() != null) bytes += 40 + 2L * notice.title().length();
+            }
+            bytes += 48L * postings.size() + 4L * postingCount + 16L * postings.size();
+            bytes += 16L + 4L * newest.length;
+
+            return new NoticeIndexStatsDto(board, docs.length, postings.size(), postingCount, bytes,
+                    timer.count(), timer.mean(TimeUnit.MICROSECONDS), timer.max(TimeUnit.MICROSECONDS));
+        }
+
+        // 정렬된 두 목록의 교집합을 target 앞쪽에 채우고 크기를 반환
+        private static int intersect(int[] target, int size, int[] other) {
+            int write = 0;
+            int j = 0;
+            for (int i = 0; i < size && j < other.length; i++) {
+                int doc = target[i];
+                while (j < other.length && other[j] < doc) j++;
+                if (j < other.length && other[j] == doc) target[write++] = doc;
+            }
+            return write;
+        }
+
+        private static int[] distinctBigrams(String title) {
+            if (title == null || title.length() < 2) return new int[0];
+            Set<Integer> keys = new LinkedHashSet<>();
+            for (int i = 0; i + 1 < title.length(); i++) {
+                keys.add(bigram(title.charAt(i), title.charAt(i + 1)));
+            }
+            return keys.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
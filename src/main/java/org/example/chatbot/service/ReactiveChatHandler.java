@@ -0,0 +1,93 @@
+package org.example.chatbot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.config.GptProfileProperties;
+import org.example.chatbot.dto.GptResponseDto;
+import org.example.chatbot.dto.IntentResultDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 질문을 논블로킹으로 처리합니다. (spring.profiles.active=reactive)
+ * GPT 호출은 WebClient, 세션 조회/저장은 reactive Redis로 수행해 응답을 기다리는 동안 스레드를 점유하지 않고,
+ * 블로킹인 테이블 조회(JPA)만 chatJdbcScheduler에서 실행합니다. 요청 스레드는 CompletionStage를 반환하고 바로 풀려납니다.
+ * 블로킹 경로(ChatService.resolve)와 같이 데드라인을 넘기거나 실패한 intent 분류는 규칙 기반 축소 분류로,
+ * 세션 조회는 빈 세션으로 대체하고, 세션은 답변에 필요할 때만 기다립니다.
+ * 이 경로는 intent 마이크로 배칭, hedging, Redis 기반 분산 coalescing을 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveChatHandler implements ChatHandler {
+
+    private final ChatService chatService;
+    private final GptService gptService;
+    private final ChatSessionService chatSessionService;
+    private final LocalIntentClassifier localIntentClassifier;
+    private final GptProfileProperties gptProfileProperties;
+    private final Scheduler chatJdbcScheduler;
+
+    @Value("${chatbot.chat.deadline-ms:25000}")
+    private long deadlineMs;
+
+    @Override
+    public CompletionStage<GptResponseDto> handle(String userId, String userInput, String continuationToken) {
+        // "더 보기"는 세션의 커서로 답하므로 intent 분류가 필요 없음
+        Duration deadline = Duration.ofMillis(deadlineMs);
+        Mono<IntentResultDto> intent = chatService.isMoreRequest(userInput)
+                ? Mono.just(new IntentResultDto("없음", null, null))
+                : gptService.classifyIntentReactive(userInput)
+                        .timeout(deadline)
+                        .onErrorResume(e -> {
+                            log.warn("⏱️ intent 분류 실패 또는 데드라인 초과({}), 규칙 기반 축소 분류로 대체합니다.",
+                                    e.getMessage());
+                            return Mono.fromSupplier(() -> localIntentClassifier.classifyDegraded(userInput));
+                        });
+        // 분류와 동시에 조회를 시작하되, decide가 세션이 필요할 때만 결과를 기다림 (chatJdbcScheduler 스레드에서 대기)
+        CompletableFuture<ChatSessionService.Session> session = chatSessionService.getSessionReactive(userId)
+                .timeout(deadline)
+                .onErrorResume(e -> {
+                    log.warn("⏱️ 세션 조회 실패 또는 데드라인 초과({}), 빈 세션을 사용합니다.", e.getMessage());
+                    return Mono.just(ChatSessionService.Session.empty());
+                })
+                .toFuture();
+
+        return intent
+                .flatMap(result -> Mono.fromCallable(
+                                () -> chatService.decide(userInput, continuationToken, result, session::join))
+                        .subscribeOn(chatJdbcScheduler))
+                .flatMap(reply -> save(userId, reply).then(answer(reply)))
+                // 마지막 안전장치: 블로킹 경로의 최대 소요 시간(데드라인 + fallback 답변 생성)을 넘기면 안내 문구로 답함
+                .timeout(deadline.plusMillis(gptProfileProperties.getFallback().getTimeoutMs()))
+                .onErrorResume(e -> {
+                    log.error("❗ reactive 질문 처리 실패: {}", e.getMessage());
+                    return Mono.just(new GptResponseDto("없음", GptService.DEGRADED_FALLBACK_ANSWER));
+                })
+                .doFinally(signal -> session.cancel(true))
+                .toFuture();
+    }
+
+    private Mono<Void> save(String userId, ChatService.ChatReply reply) {
+        if (reply.sessionToSave() == null) return Mono.empty();
+        return chatSessionService.saveSessionReactive(userId, reply.sessionToSave())
+                .onErrorResume(e -> {
+                    log.warn("❗ 세션 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<GptResponseDto> answer(ChatService.ChatReply reply) {
+        if (!reply.needsFallback()) return Mono.just(reply.response());
+        return gptService.generateFallbackAnswerReactive(reply.fallbackInput())
+                .map(answer -> new GptResponseDto("없음", answer));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.chatbot.service;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.example.chatbot.dto.ChatCompletionRequestDto;
+import org.example.chatbot.dto.ChatCompletionResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebClient 기반 논블로킹 Chat Completions 클라이언트입니다. (reactive 프로필에서만 생성)
+ * 응답을 기다리는 동안 스레드를 점유하지 않으므로, OpenAI 응답을 기다리는 수많은 요청을 소수의 이벤트 루프 스레드로 처리합니다.
+ * 엔드포인트 선택과 결과 기록은 블로킹 GptClient와 같은 GptEndpointRouter를 사용합니다.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveGptClient {
+
+    private final WebClient webClient;
+    private final GptEndpointRouter endpointRouter;
+
+    public ReactiveGptClient(WebClient.Builder webClientBuilder,
+                             GptEndpointRouter endpointRouter,
+                             @Value("${openai.client.max-connections:50}") int maxConnections,
+                             @Value("${openai.client.connect-timeout-ms:2000}") int connectTimeoutMs,
+                             @Value("${openai.client.pool-timeout-ms:1000}") long poolTimeoutMs) {
+        this.endpointRouter = endpointRouter;
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("gpt-reactive")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(poolTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs);
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * Chat Completions 요청을 보냅니다. 구독 시점에 엔드포인트를 고르고, 데드라인을 넘기면 요청을 취소합니다.
+     *
+     * @param callType 호출 종류 (엔드포인트 라우팅용)
+     * @param request  요청 본문
+     * @param deadline 요청 전체 데드라인
+     * @return 파싱된 응답 (실패 시 GptCallException 에러 신호)
+     */
+    public Mono<ChatCompletionResponseDto> complete(String callType, ChatCompletionRequestDto request, Duration deadline) {
+        return Mono.defer(() -> {
+            GptEndpointRouter.Route route = endpointRouter.select(callType, null);
+            GptEndpointRouter.GptEndpoint endpoint = route.endpoint();
+            long startedAt = System.nanoTime();
+
+            return webClient.post()
+                    .uri(endpoint.getUrl())
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + endpoint.getApiKey())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request.withModel(endpoint.getModel()))
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> new GptStatusException(response.statusCode().value(), body)))
+                    .bodyToMono(ChatCompletionResponseDto.class)
+                    .switchIfEmpty(Mono.error(() -> new GptCallException("GPT 응답 본문이 비어 있습니다.")))
+                    .timeout(deadline, Mono.error(() ->
+                            new GptCallException("GPT 호출 데드라인(" + deadline.toMillis() + "ms) 초과")))
+                    .onErrorMap(error -> !(error instanceof GptCallException),
+                            error -> new GptCallException("GPT 호출 실패: " + error.getMessage(), error))
+                    .doOnSuccess(response -> endpointRouter.record(route, elapsedMs(startedAt), false))
+                    .doOnError(error -> endpointRouter.record(route, elapsedMs(startedAt),
+                            !(error instanceof GptStatusException status) || status.isEndpointFailure()))
+                    .doOnCancel(() -> endpointRouter.release(route));
+        });
+    }
+
+    private long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.chatbot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 테이블 기반 intent(식단, 공지사항, 학사일정)의 완성된 답변 문자열 캐시입니다.
+ * 같은 (intent, 기간, 키워드, 시간대) 질문은 스냅샷/색인을 다시 훑고 문자열을 조립하지 않고 바로 답합니다.
+ * 원본이 바뀌면 스냅샷/색인을 교체한 쪽에서 무효화를 호출합니다.
+ * - 식단: 식당별로 내용이 바뀐 날짜와 기간이 겹치는 답변만
+ * - 공지사항: 바뀐 게시판의 답변 전체
+ * - 학사일정: 학사일정 답변 전체 (키워드 검색/다른 기간 안내가 전체 일정을 보므로)
+ * 답변을 만드는 도중 무효화가 일어나면 이전 데이터로 만든 답변일 수 있으므로 저장하지 않습니다. (intent별 세대 번호 비교)
+ */
+@Slf4j
+@Component
+public class RenderedAnswerCache {
+
+    /**
+     * 정규화한 질문 조건입니다. 답변 문구가 오늘 날짜(이번 달, 올해)에 따라 달라지는 경우가 있어 오늘 날짜도 키에 넣습니다.
+     *
+     * @param intent            식당/게시판/학사일정 intent
+     * @param keyword           키워드, 비어 있으면 null
+     * @param mealTime          식사 시간대, 식단 외에는 null
+     * @param startDate         요청 기간 시작일
+     * @param endDate           요청 기간 종료일
+     * @param dateFilterApplied 질문에 날짜 표현이 있었는지 여부
+     * @param today             답변을 만든 날짜
+     */
+    public record Key(String intent, String keyword, String mealTime, LocalDate startDate, LocalDate endDate,
+                      boolean dateFilterApplied, LocalDate today) {
+
+        public static Key of(String intent, String keyword, String mealTime,
+                             LocalDate startDate, LocalDate endDate, boolean dateFilterApplied) {
+            return new Key(intent, keyword == null || keyword.isBlank() ? null : keyword, mealTime,
+                    startDate, endDate, dateFilterApplied, LocalDate.now());
+        }
+
+        // 기간이 null이면 해당 쪽 경계가 없는 것으로 봄
+        private boolean overlaps(NavigableSet<LocalDate> dates) {
+            LocalDate from = startDate != null ? startDate : LocalDate.MIN;
+            LocalDate to = endDate != null ? endDate : LocalDate.MAX;
+            return !from.isAfter(to) && !dates.subSet(from, true, to, true).isEmpty();
+        }
+    }
+
+    private final Cache<Key, Object> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter invalidated;
+
+    public RenderedAnswerCache(MeterRegistry meterRegistry,
+                               @Value("${chatbot.answer-cache.max-size:20000}") long maxSize,
+                               @Value("${chatbot.answer-cache.ttl-hours:24}") long ttlHours) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+
+        this.hit = counter(meterRegistry, "hit");
+        this.miss = counter(meterRegistry, "miss");
+        this.invalidated = counter(meterRegistry, "invalidated");
+        Gauge.builder("chatbot.answer-cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 테이블 답변 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 답변을 반환하고, 없으면 render로 만들어 저장합니다.
+     * 만드는 도중 같은 intent가 무효화되었으면 결과를 반환만 하고 저장하지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> render) {
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hit.increment();
+            return (T) cached;
+        }
+        miss.increment();
+
+        AtomicLong generation = generation(key.intent());
+        long renderedAt = generation.get();
+        T answer = render.get();
+        if (answer != null && generation.get() == renderedAt) {
+            cache.put(key, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * intent의 답변을 모두 무효화합니다.
+     */
+    public void invalidate(String intent) {
+        evict(intent, key -> true);
+    }
+
+    /**
+     * intent의 답변 중 기간이 dates 중 하나라도 포함하는 답변만 무효화합니다.
+     */
+    public void invalidate(String intent, NavigableSet<LocalDate> dates) {
+        if (dates.isEmpty()) return;
+        evict(intent, key -> key.overlaps(dates));
+    }
+
+    private void evict(String intent, Predicate<Key> affected) {
+        generation(intent).incrementAndGet();
+        int evicted = 0;
+        for (Iterator<Key> keys = cache.asMap().keySet().iterator(); keys.hasNext(); ) {
+            Key key = keys.next();
+            if (key.intent().equals(intent) && affected.test(key)) {
+                keys.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            invalidated.increment(evicted);
+            log.info("🧹 [{}] 답변 캐시 무효화: {}건", intent, evicted);
+        }
+    }
+
+    private AtomicLong generation(String intent) {
+        return generations.computeIfAbsent(intent, ignored -> new AtomicLong());
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("chatbot.answer-cache")
+                .description("테이블 답변 캐시 적중/무효화 건수")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class ScholarshipNoticeService extends AbstractSearchService<ScholarshipN
     }
 
     @Override
-    protected List<ScholarshipNotice> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByNoticeDateContainingAndTitleContaining(date, keyword);
+    protected List<ScholarshipNotice> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByNoticeDateBetweenAndTitleContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<ScholarshipNotice> findByDate(String date) {
-        return repository.findByNoticeDateContaining(date);
+    protected List<ScholarshipNotice> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByNoticeDateBetween(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class ScholarshipNoticeService extends AbstractSearchService<ScholarshipN
         return repository.findByTitleContaining(keyword);
     }
 
+    @Override
+    protected List<ScholarshipNotice> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchByNoticeDateBetweenAndTitleFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<ScholarshipNotice> findByKeywordFullText(String keyword) {
+        return repository.searchByTitleFullText(keyword);
+    }
+
     @Override
     protected List<ScholarshipNotice> findAll() {
         return repository.findAll();
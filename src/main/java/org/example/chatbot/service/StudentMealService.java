@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -26,13 +27,13 @@ public class StudentMealService extends AbstractSearchService<StudentMeal> {
     }
 
     @Override
-    protected List<StudentMeal> findByDateAndKeyword(String date, String keyword) {
-        return repository.findByMealDateContainingAndMenuContaining(date, keyword);
+    protected List<StudentMeal> findByDateAndKeyword(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.findByMealDateBetweenAndMenuContaining(startDate, endDate, keyword);
     }
 
     @Override
-    protected List<StudentMeal> findByDate(String date) {
-        return repository.findByMealDateContaining(date);
+    protected List<StudentMeal> findByDate(LocalDate startDate, LocalDate endDate) {
+        return repository.findByMealDateBetween(startDate, endDate);
     }
 
     @Override
@@ -40,6 +41,16 @@ public class StudentMealService extends AbstractSearchService<StudentMeal> {
         return repository.findByMenuContaining(keyword);
     }
 
+    @Override
+    protected List<StudentMeal> findByDateAndKeywordFullText(LocalDate startDate, LocalDate endDate, String keyword) {
+        return repository.searchByMealDateBetweenAndMenuFullText(startDate, endDate, keyword);
+    }
+
+    @Override
+    protected List<StudentMeal> findByKeywordFullText(String keyword) {
+        return repository.searchByMenuFullText(keyword);
+    }
+
     @Override
     protected List<StudentMeal> findAll() {
         return repository.findAll();
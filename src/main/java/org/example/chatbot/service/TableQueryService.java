@@ -2,62 +2,92 @@ package org.example.chatbot.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.chatbot.domain.*;
-import org.example.chatbot.repository.*;
+import org.example.chatbot.config.SearchMode;
+import org.example.chatbot.repository.AcademicNoticeRepository;
+import org.example.chatbot.repository.HankyongNoticeRepository;
+import org.example.chatbot.repository.ScholarshipNoticeRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static org.example.chatbot.util.DateTimeExtractor.extractScheduleDateRange;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TableQueryService {
 
-    private final StudentMealRepository studentMealRepository;
-    private final FacultyMealRepository facultyMealRepository;
-    private final DormMealRepository dormMealRepository;
+    private final MealSnapshotStore mealSnapshotStore;
+
+    private final NoticeTitleIndex noticeTitleIndex;
+    private final AcademicScheduleIndex academicScheduleIndex;
+    private final RenderedAnswerCache renderedAnswerCache;
 
     private final AcademicNoticeRepository academicNoticeRepository;
-    private final AcademicScheduleRepository academicScheduleRepository;
-    private final HankyongNoticeRepository hankyongNoticeRepository;
     private final ScholarshipNoticeRepository scholarshipNoticeRepository;
+    private final HankyongNoticeRepository hankyongNoticeRepository;
 
-    public List<?> findMealDataByIntent(String intent, String keyword) {
-        boolean hasKeyword = keyword != null && !keyword.isBlank();
-        return switch (intent) {
-            case "학생식당" -> studentMealRepository.findAll();
-            case "교직원식당" -> hasKeyword
-                    ? facultyMealRepository.findByMenuContaining(keyword)
-                    : facultyMealRepository.findAll();
-            case "기숙사식당" -> dormMealRepository.findAll();
-            default -> List.of();
-        };
+    @Value("${chatbot.search.mode:like}")
+    private SearchMode searchMode = SearchMode.LIKE;
+
+    // 공지사항 답변 한 번에 보여줄 건수
+    @Value("${chatbot.notice.page-size:5}")
+    private int noticePageSize = 5;
+
+    private static final String MORE_NOTICES_HINT = "더 많은 공지사항은 '더 보기'라고 입력해 주세요.";
+    private static final String NO_MORE_NOTICES = "더 보여드릴 공지사항이 없어요.";
+
+    /**
+     * 공지사항 답변 한 페이지입니다. next가 있으면 "더 보기"로 다음 페이지를 조회할 수 있습니다.
+     */
+    public record NoticePage(String answer, NoticeCursor next) {
     }
 
-    public List<?> findNoticeDataByIntent(String intent, String keyword) {
-        boolean hasKeyword = keyword != null && !keyword.isBlank();
+    /**
+     * 제목에 keyword를 포함한 공지를 찾습니다. keyword가 없으면 전체 공지입니다.
+     * 기본은 공지 제목 색인(NoticeTitleIndex), chatbot.search.mode=fulltext면 MySQL FULLTEXT(ngram) 검색입니다.
+     */
+    private List<NoticeTitleIndex.Notice> findNoticeDataByIntent(String intent, String keyword) {
+        if (searchMode.usesFullText(keyword)) {
+            return findNoticeDataByFullText(intent, keyword);
+        }
+        return noticeTitleIndex.search(intent, keyword);
+    }
+
+    private List<NoticeTitleIndex.Notice> findNoticeDataByFullText(String intent, String keyword) {
         return switch (intent) {
-            case "학사공지" -> hasKeyword
-                    ? academicNoticeRepository.findByTitleContaining(keyword)
-                    : academicNoticeRepository.findAll();
-            case "장학공지" -> hasKeyword
-                    ? scholarshipNoticeRepository.findByTitleContaining(keyword)
-                    : scholarshipNoticeRepository.findAll();
-            case "한경공지" -> hasKeyword
-                    ? hankyongNoticeRepository.findByTitleContaining(keyword)
-                    : hankyongNoticeRepository.findAll();
-            case "학사일정" -> academicScheduleRepository.findAll();
+            case NoticeTitleIndex.ACADEMIC -> academicNoticeRepository.searchByTitleFullText(keyword).stream()
+                    .map(notice -> new NoticeTitleIndex.Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()))
+                    .toList();
+            case NoticeTitleIndex.SCHOLARSHIP -> scholarshipNoticeRepository.searchByTitleFullText(keyword).stream()
+                    .map(notice -> new NoticeTitleIndex.Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()))
+                    .toList();
+            case NoticeTitleIndex.HANKYONG -> hankyongNoticeRepository.searchByTitleFullText(keyword).stream()
+                    .map(notice -> new NoticeTitleIndex.Notice(notice.getId(), notice.getNoticeDate(), notice.getTitle()))
+                    .toList();
             default -> List.of();
         };
     }
 
+    /**
+     * 식단 스냅샷(MealSnapshotStore)에서 기간 안의 식단을 골라 답변을 만듭니다. MySQL을 조회하지 않습니다.
+     * 같은 조건의 답변은 RenderedAnswerCache에서 바로 반환합니다. (스냅샷을 만들기 전에는 캐싱하지 않음)
+     */
     public String filterMealByConditions(String intent, String keyword, String mealTime,
                                          LocalDate startDate, LocalDate endDate,
-                                         boolean dateFilterApplied, List<?> dataList) {
+                                         boolean dateFilterApplied) {
+        if (!mealSnapshotStore.isLoaded()) {
+            return renderMeal(intent, keyword, mealTime, startDate, endDate, dateFilterApplied);
+        }
+        return renderedAnswerCache.get(
+                RenderedAnswerCache.Key.of(intent, keyword, mealTime, startDate, endDate, dateFilterApplied),
+                () -> renderMeal(intent, keyword, mealTime, startDate, endDate, dateFilterApplied));
+    }
+
+    private String renderMeal(String intent, String keyword, String mealTime,
+                              LocalDate startDate, LocalDate endDate, boolean dateFilterApplied) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
         boolean keywordFound = false;
         boolean foundDateInRange = false;
@@ -66,21 +96,17 @@ public class TableQueryService {
 
         log.info("🔍 filterMealByConditions: mealTime={}, startDate={}, endDate={}", mealTime, startDate, endDate);
 
-        for (Object data : dataList) {
-            String menu = null, dateStr = null;
+        for (Map.Entry<LocalDate, List<MealSnapshotStore.MealEntry>> day
+                : mealSnapshotStore.range(intent, startDate, endDate).entrySet()) {
+            String dateKey = day.getKey().toString();
 
-            if (data instanceof DormMeal meal) {
-                menu = meal.getFormattedMenu() != null ? meal.getFormattedMenu() : meal.getMenu();
-                dateStr = meal.getMealDate();
-                if (dateStr == null || dateStr.isBlank() || menu == null || menu.isBlank()) continue;
-
-                LocalDate mealDate = LocalDate.parse(dateStr);
-                if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
-                    foundDateInRange = true;
+            for (MealSnapshotStore.MealEntry meal : day.getValue()) {
+                foundDateInRange = true;
 
+                if (MealSnapshotStore.DORM.equals(intent)) {
                     String extractedMenu = (mealTime != null && !mealTime.isBlank())
-                            ? extractMealSection(menu, mealTime)
-                            : menu;
+                            ? meal.sections().get(mealTime)
+                            : meal.menu();
 
                     if (extractedMenu == null || extractedMenu.isBlank()) continue;
                     if (hasKeyword && extractedMenu.contains(keyword)) keywordFound = true;
@@ -91,62 +117,30 @@ public class TableQueryService {
                             ? String.format("[%s]\n%s", mealTime, extractedMenu)
                             : extractedMenu;
 
-                    groupedMenus.computeIfAbsent(dateStr, k -> new ArrayList<>()).add(formatted);
+                    groupedMenus.computeIfAbsent(dateKey, k -> new ArrayList<>()).add(formatted);
                 }
-            }
-
-            else if (data instanceof StudentMeal meal) {
-                menu = meal.getMenu();
-                dateStr = meal.getMealDate();
-                String studentMealTime = meal.getMealTime(); // ex: "건강한끼(11:30~13:30)"
-                if (menu == null || dateStr == null || studentMealTime == null) continue;
-
-                LocalDate mealDate = LocalDate.parse(dateStr);
-                if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
-                    foundDateInRange = true;
-
-                    String timeLabel = extractTimeLabel(studentMealTime);  // "건강한끼" or "맛난한끼"
-                    String timeRange = extractTimeRange(studentMealTime);  // "11:30~13:30"
 
+                else if (MealSnapshotStore.STUDENT.equals(intent)) {
                     // "점심"은 전체 포함, 특정 식단명을 지정한 경우만 필터링
                     if (mealTime != null && !mealTime.isBlank() &&
                             !mealTime.equals("점심") &&
-                            !normalizeKorean(timeLabel).equalsIgnoreCase(normalizeKorean(mealTime))) continue;
+                            !meal.normalizedLabel().equalsIgnoreCase(normalizeKorean(mealTime))) continue;
 
                     // 조건: 학생식당이고 mealTime이 지정된 경우 -> 키워드 필터는 생략
-                    boolean skipKeywordCheck = "학생식당".equals(intent) && mealTime != null && !mealTime.equals("점심");
+                    boolean skipKeywordCheck = mealTime != null && !mealTime.equals("점심");
 
-                    if (hasKeyword && !skipKeywordCheck && !menu.contains(keyword)) continue;
+                    if (hasKeyword && !skipKeywordCheck && !meal.menu().contains(keyword)) continue;
                     if (hasKeyword) keywordFound = true;
 
-                    String formatted = String.format("[%s] %s\n%s", timeLabel, timeRange,
-                            Arrays.stream(menu.split("\n")).map(s -> "- " + s).collect(Collectors.joining("\n")));
-
-                    groupedMenus.computeIfAbsent(dateStr, k -> new ArrayList<>()).add(formatted);
+                    groupedMenus.computeIfAbsent(dateKey, k -> new ArrayList<>()).add(meal.block());
                 }
-            }
-
-            else if (data instanceof FacultyMeal meal) {
-                menu = meal.getMenu();
-                dateStr = meal.getMealDate();
-                String facultyMealTime = meal.getMealTime(); // ex: "점심(11:30~13:00)"
-                if (menu == null || dateStr == null || facultyMealTime == null) continue;
 
-                LocalDate mealDate = LocalDate.parse(dateStr);
-                if (!mealDate.isBefore(startDate) && !mealDate.isAfter(endDate)) {
-                    foundDateInRange = true;
-
-                    String timeLabel = extractTimeLabel(facultyMealTime);  // "점심"
-                    String timeRange = extractTimeRange(facultyMealTime);  // "11:30~13:00"
-
-                    if (mealTime != null && !mealTime.equals(timeLabel)) continue;
-                    if (hasKeyword && !menu.contains(keyword)) continue;
+                else if (MealSnapshotStore.FACULTY.equals(intent)) {
+                    if (mealTime != null && !mealTime.equals(meal.timeLabel())) continue;
+                    if (hasKeyword && !meal.menu().contains(keyword)) continue;
                     if (hasKeyword) keywordFound = true;
 
-                    String formatted = String.format("[%s] %s\n%s", timeLabel, timeRange,
-                            Arrays.stream(menu.split("\n")).map(s -> "- " + s).collect(Collectors.joining("\n")));
-
-                    groupedMenus.computeIfAbsent(dateStr, k -> new ArrayList<>()).add(formatted);
+                    groupedMenus.computeIfAbsent(dateKey, k -> new ArrayList<>()).add(meal.block());
                 }
             }
         }
@@ -193,76 +187,143 @@ public class TableQueryService {
         return "최근 관련 식단을 찾지 못했어요.";
     }
 
-    private String extractMealSection(String menu, String mealTime) {
-        if (menu == null || mealTime == null) return null;
-        String marker = "[" + mealTime + "]";
-        int start = menu.indexOf(marker);
-        if (start == -1) return null;
-        int nextMarker = menu.indexOf("[", start + marker.length());
-        if (nextMarker == -1) nextMarker = menu.length();
-        return menu.substring(start + marker.length(), nextMarker).trim();
+    /**
+     * 공지사항 답변을 최신순 noticePageSize건 단위로 만듭니다. after가 있으면 그 위치 다음 페이지입니다.
+     * 키워드가 없으면 게시일 최신순 색인에서 기간 안의 앞쪽 K건만 읽고,
+     * 키워드가 있으면 제목 검색 결과를 크기 K+1의 힙으로 걸러 최신 K건을 고릅니다. (K+1번째가 있으면 "더 보기")
+     * 첫 페이지는 게시판 색인이 만들어져 있으면 RenderedAnswerCache에 캐싱합니다.
+     */
+    public NoticePage findNoticePage(String intent, String keyword, LocalDate startDate, LocalDate endDate,
+                                     boolean dateFilterApplied, NoticeCursor after) {
+        if (after != null || !noticeTitleIndex.isLoaded(intent)) {
+            return renderNoticePage(intent, keyword, startDate, endDate, dateFilterApplied, after);
+        }
+        return renderedAnswerCache.get(
+                RenderedAnswerCache.Key.of(intent, keyword, null, startDate, endDate, dateFilterApplied),
+                () -> renderNoticePage(intent, keyword, startDate, endDate, dateFilterApplied, null));
     }
 
-    public String filterNoticeByConditions(String keyword, LocalDate startDate, LocalDate endDate,
-                                           boolean dateFilterApplied, List<?> dataList) {
+    private NoticePage renderNoticePage(String intent, String keyword, LocalDate startDate, LocalDate endDate,
+                                        boolean dateFilterApplied, NoticeCursor after) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
-        Set<String> matchedNotices = new LinkedHashSet<>();
-        Set<String> fallbackNotices = new LinkedHashSet<>();
-        boolean foundDateInRange = false;
         int currentYear = LocalDate.now().getYear();
 
-        for (Object data : dataList) {
-            String title = null, dateStr = null;
+        if (!hasKeyword) {
+            List<NoticeTitleIndex.Notice> page = noticeTitleIndex.recent(intent, startDate, endDate, after, noticePageSize + 1);
+            if (!page.isEmpty()) {
+                return toNoticePage(page, "", intent, keyword, startDate, endDate, dateFilterApplied, false);
+            }
+            if (after != null) return new NoticePage(NO_MORE_NOTICES, null);
+            if (dateFilterApplied) {
+                return new NoticePage(String.format("요청하신 기간(%s ~ %s)에는 공지사항이 없어요. 다른 기간으로 다시 질문해 보시겠어요?", startDate, endDate), null);
+            }
+            return new NoticePage("최근 관련 공지사항을 찾지 못했어요.", null);
+        }
 
-            if (data instanceof AcademicNotice notice) {
-                title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
-            } else if (data instanceof ScholarshipNotice notice) {
-                title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
-            } else if (data instanceof HankyongNotice notice) {
-                title = notice.getTitle();
-                dateStr = notice.getNoticeDate();
-            } else continue;
+        List<NoticeTitleIndex.Notice> candidates = findNoticeDataByIntent(intent, keyword);
+        Predicate<NoticeTitleIndex.Notice> inRange = notice ->
+                !notice.noticeDate().isBefore(startDate) && !notice.noticeDate().isAfter(endDate);
+        Predicate<NoticeTitleIndex.Notice> otherDate = notice -> !inRange.test(notice)
+                && notice.noticeDate().getYear() == currentYear && notice.title() != null && notice.title().contains(keyword);
 
-            if (dateStr == null || dateStr.isBlank()) continue;
-            LocalDate noticeDate = LocalDate.parse(dateStr);
+        if (after != null && after.otherDates()) {
+            List<NoticeTitleIndex.Notice> page = newestMatches(candidates, otherDate, after, noticePageSize + 1);
+            if (page.isEmpty()) return new NoticePage(NO_MORE_NOTICES, null);
+            return toNoticePage(page, "", intent, keyword, startDate, endDate, dateFilterApplied, true);
+        }
 
-            if (!noticeDate.isBefore(startDate) && !noticeDate.isAfter(endDate)) {
-                foundDateInRange = true;
-                if (!hasKeyword || (title != null && title.contains(keyword))) {
-                    matchedNotices.add(String.format("[%s] %s", noticeDate, title));
-                }
-            } else {
-                boolean isThisYear = noticeDate.getYear() == currentYear;
-                if (hasKeyword && isThisYear && title != null && title.contains(keyword)) {
-                    fallbackNotices.add(String.format("[다른 날짜 %s] %s", dateStr, title));
-                }
-            }
+        List<NoticeTitleIndex.Notice> matched = newestMatches(candidates,
+                inRange.and(notice -> notice.title() != null && notice.title().contains(keyword)), after,
+                noticePageSize + 1);
+        if (!matched.isEmpty()) {
+            return toNoticePage(matched, "", intent, keyword, startDate, endDate, dateFilterApplied, false);
         }
+        if (after != null) return new NoticePage(NO_MORE_NOTICES, null);
 
-        if (!matchedNotices.isEmpty()) return String.join("\n\n", matchedNotices);
+        boolean foundDateInRange = candidates.stream()
+                .anyMatch(notice -> notice.noticeDate() != null && inRange.test(notice));
+        List<NoticeTitleIndex.Notice> fallbackNotices = newestMatches(candidates, otherDate, null, noticePageSize + 1);
 
         if (dateFilterApplied && !foundDateInRange && !fallbackNotices.isEmpty()) {
-            return String.format(
-                    "요청하신 기간(%s ~ %s)에는 '%s' 키워드를 포함한 공지사항이 없어요.\n다른 날짜에 찾은 관련 공지사항은 다음과 같아요:\n\n%s",
-                    startDate, endDate, keyword, String.join("\n\n", fallbackNotices)
-            );
+            String header = String.format(
+                    "요청하신 기간(%s ~ %s)에는 '%s' 키워드를 포함한 공지사항이 없어요.\n다른 날짜에 찾은 관련 공지사항은 다음과 같아요:\n\n",
+                    startDate, endDate, keyword);
+            return toNoticePage(fallbackNotices, header, intent, keyword, startDate, endDate, dateFilterApplied, true);
         }
 
         if (dateFilterApplied) {
-            return String.format("요청하신 기간(%s ~ %s)에는 '%s' 키워드를 포함한 공지사항이 없어요. 다른 기간으로 다시 질문해 보시겠어요?", startDate, endDate, keyword);
+            return new NoticePage(String.format("요청하신 기간(%s ~ %s)에는 '%s' 키워드를 포함한 공지사항이 없어요. 다른 기간으로 다시 질문해 보시겠어요?", startDate, endDate, keyword), null);
         }
 
         if (!fallbackNotices.isEmpty()) {
-            return "최근 관련 공지사항은 다음과 같아요:\n\n" + String.join("\n\n", fallbackNotices);
+            return toNoticePage(fallbackNotices, "최근 관련 공지사항은 다음과 같아요:\n\n",
+                    intent, keyword, startDate, endDate, dateFilterApplied, true);
+        }
+
+        return new NoticePage("최근 관련 공지사항을 찾지 못했어요.", null);
+    }
+
+    /**
+     * 게시판 하나에서 제목에 keyword를 포함한 공지를 최신순으로 최대 limit건 반환합니다. 기간이 null이면 해당 쪽 제한이 없습니다.
+     */
+    public List<NoticeTitleIndex.Notice> findNewestNotices(String intent, String keyword,
+                                                           LocalDate startDate, LocalDate endDate, int limit) {
+        return newestMatches(findNoticeDataByIntent(intent, keyword), notice ->
+                (startDate == null || !notice.noticeDate().isBefore(startDate))
+                        && (endDate == null || !notice.noticeDate().isAfter(endDate))
+                        && notice.title() != null && notice.title().contains(keyword), null, limit);
+    }
+
+    // 조건에 맞고 after 다음인 공지 중 최신 limit건 (힙의 머리는 가장 오래된 공지)
+    private List<NoticeTitleIndex.Notice> newestMatches(List<NoticeTitleIndex.Notice> candidates,
+                                                        Predicate<NoticeTitleIndex.Notice> filter,
+                                                        NoticeCursor after, int limit) {
+        PriorityQueue<NoticeTitleIndex.Notice> heap = new PriorityQueue<>(NoticeTitleIndex.NEWEST_FIRST.reversed());
+        for (NoticeTitleIndex.Notice notice : candidates) {
+            if (notice.noticeDate() == null || !filter.test(notice)) continue;
+            if (after != null && !after.isBefore(notice)) continue;
+            if (heap.size() < limit) {
+                heap.add(notice);
+            } else if (NoticeTitleIndex.NEWEST_FIRST.compare(notice, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(notice);
+            }
         }
+        List<NoticeTitleIndex.Notice> newest = new ArrayList<>(heap);
+        newest.sort(NoticeTitleIndex.NEWEST_FIRST);
+        return newest;
+    }
 
-        return "최근 관련 공지사항을 찾지 못했어요.";
+    // 최대 noticePageSize건을 보여주고, 남은 공지가 있으면 마지막으로 보여준 공지 위치를 다음 커서로 반환
+    private NoticePage toNoticePage(List<NoticeTitleIndex.Notice> notices, String header, String intent, String keyword,
+                                    LocalDate startDate, LocalDate endDate, boolean dateFilterApplied, boolean otherDates) {
+        boolean hasMore = notices.size() > noticePageSize;
+        List<NoticeTitleIndex.Notice> shown = hasMore ? notices.subList(0, noticePageSize) : notices;
+
+        String body = shown.stream()
+                .map(notice -> String.format(otherDates ? "[다른 날짜 %s] %s" : "[%s] %s", notice.noticeDate(), notice.title()))
+                .collect(Collectors.joining("\n\n"));
+        if (!hasMore) return new NoticePage(header + body, null);
+
+        NoticeTitleIndex.Notice last = shown.get(shown.size() - 1);
+        NoticeCursor next = new NoticeCursor(intent, keyword, startDate, endDate, dateFilterApplied, otherDates,
+                last.noticeDate(), last.id());
+        return new NoticePage(header + body + "\n\n" + MORE_NOTICES_HINT, next);
     }
 
+    /**
+     * 학사일정을 메모리 구간 인덱스(AcademicScheduleIndex)로 조회합니다. MySQL을 조회하지 않습니다.
+     * 같은 조건의 답변은 RenderedAnswerCache에서 바로 반환합니다.
+     */
     public String filterAcademicScheduleByConditions(String keyword, LocalDate startDate, LocalDate endDate,
-                                                     boolean dateFilterApplied, List<?> dataList) {
+                                                     boolean dateFilterApplied) {
+        return renderedAnswerCache.get(
+                RenderedAnswerCache.Key.of(AcademicScheduleIndex.SCHEDULE, keyword, null, startDate, endDate,
+                        dateFilterApplied),
+                () -> renderSchedule(keyword, startDate, endDate, dateFilterApplied));
+    }
+
+    private String renderSchedule(String keyword, LocalDate startDate, LocalDate endDate, boolean dateFilterApplied) {
         boolean hasKeyword = keyword != null && !keyword.isBlank();
         Set<String> matchedSchedules = new LinkedHashSet<>();
         boolean foundDateInRange = false;
@@ -276,54 +337,26 @@ public class TableQueryService {
             dateFilterApplied = true;
         }
 
-        int baseYear = (startDate != null) ? startDate.getYear() : LocalDate.now().getYear();
-
-        for (Object data : dataList) {
-            if (!(data instanceof AcademicSchedule schedule)) continue;
-            String content = schedule.getContent();
-            if (content == null || content.isBlank()) continue;
-
-            // 키워드 필터 우선 적용
-            if (hasKeyword && !content.contains(keyword)) continue;
-
-            LocalDate[] scheduleRange = extractScheduleDateRange(content, baseYear);
-            if (scheduleRange == null) continue;
+        List<AcademicScheduleIndex.ScheduleEvent> candidates;
+        if (dateFilterApplied) {
+            candidates = academicScheduleIndex.overlapping(startDate, endDate);
+        } else {
+            candidates = hasKeyword ? academicScheduleIndex.containing(keyword) : academicScheduleIndex.all();
+        }
 
-            LocalDate scheduleStart = scheduleRange[0], scheduleEnd = scheduleRange[1];
-            boolean isOverlap = (startDate == null || !scheduleStart.isAfter(endDate)) &&
-                    (endDate == null || !scheduleEnd.isBefore(startDate));
+        for (AcademicScheduleIndex.ScheduleEvent event : candidates) {
+            if (hasKeyword && !event.content().contains(keyword)) continue;
 
-            if (!dateFilterApplied || isOverlap) {
-                if (isOverlap) foundDateInRange = true;
-                matchedSchedules.add(String.format("[%s ~ %s] %s", scheduleStart, scheduleEnd, content));
-            }
+            boolean isOverlap = (startDate == null || !event.start().isAfter(endDate)) &&
+                    (endDate == null || !event.end().isBefore(startDate));
+            if (isOverlap) foundDateInRange = true;
+            matchedSchedules.add(formatSchedule(event));
         }
 
         if (!matchedSchedules.isEmpty()) {
             return String.join("\n\n", matchedSchedules);
         }
 
-        // 키워드만 있고 날짜 필터가 없을 경우 별도 처리 (중복 방지 위해 별도 Set 사용)
-        if (!dateFilterApplied && hasKeyword) {
-            Set<String> keywordOnlyMatches = new LinkedHashSet<>();
-            for (Object data : dataList) {
-                if (!(data instanceof AcademicSchedule schedule)) continue;
-                String content = schedule.getContent();
-                if (content == null || content.isBlank()) continue;
-                if (!content.contains(keyword)) continue;
-
-                LocalDate[] scheduleRange = extractScheduleDateRange(content, LocalDate.now().getYear());
-                if (scheduleRange == null) continue;
-
-                keywordOnlyMatches.add(String.format("[%s ~ %s] %s", scheduleRange[0], scheduleRange[1], content));
-            }
-
-            if (!keywordOnlyMatches.isEmpty()) {
-                return String.format("'%s' 키워드로 찾은 학사일정입니다:\n\n%s",
-                        keyword, String.join("\n\n", keywordOnlyMatches));
-            }
-        }
-
         // fallback: keyword는 있지만 해당 날짜 범위에 없을 때
         if (dateFilterApplied && hasKeyword) {
             String otherDate = findKeywordInOtherDates(keyword, startDate, endDate);
@@ -347,31 +380,17 @@ public class TableQueryService {
     }
 
     public String findKeywordInOtherDates(String keyword, LocalDate startDate, LocalDate endDate) {
-        List<AcademicSchedule> schedules = academicScheduleRepository.findByContentContaining(keyword);
-        int currentYear = LocalDate.now().getYear();
         List<String> otherMatches = new ArrayList<>();
 
-        for (AcademicSchedule schedule : schedules) {
-            String content = schedule.getContent();
-            if (content == null || content.isBlank()) continue;
-
-            LocalDate[] scheduleRange = extractScheduleDateRange(content, currentYear);
-            if (scheduleRange == null) continue;
-
-            LocalDate scheduleStart = scheduleRange[0];
-            LocalDate scheduleEnd = scheduleRange[1];
-
-            // 날짜가 지정된 경우: 요청 기간 외의 일정만 수집
-            if (startDate != null && endDate != null) {
-                boolean isOutsideRequestedPeriod = scheduleEnd.isBefore(startDate) || scheduleStart.isAfter(endDate);
-                if (isOutsideRequestedPeriod) {
-                    otherMatches.add(String.format("[%s ~ %s] %s", scheduleStart, scheduleEnd, content));
-                }
-            } else {
-                // 날짜 지정이 없는 경우: 향후 일정만 수집
-                if (scheduleEnd.isAfter(LocalDate.now())) {
-                    otherMatches.add(String.format("[%s ~ %s] %s", scheduleStart, scheduleEnd, content));
-                }
+        if (startDate != null && endDate != null) {
+            // 날짜가 지정된 경우: 요청 기간 밖에서 가장 가까운 일정 (기간 이후 우선)
+            academicScheduleIndex.nextOutside(keyword, startDate, endDate)
+                    .ifPresent(event -> otherMatches.add(formatSchedule(event)));
+        } else {
+            // 날짜 지정이 없는 경우: 향후 일정만 수집
+            LocalDate today = LocalDate.now();
+            for (AcademicScheduleIndex.ScheduleEvent event : academicScheduleIndex.containing(keyword)) {
+                if (event.end().isAfter(today)) otherMatches.add(formatSchedule(event));
             }
         }
 
@@ -380,16 +399,8 @@ public class TableQueryService {
         return String.format("다른 기간에 '%s' 키워드와 관련된 일정이 있어요:\n\n%s", keyword, String.join("\n\n", otherMatches));
     }
 
-    private String extractTimeLabel(String mealTime) {
-        // ex: "건강한끼(11:30~13:30)" → "건강한끼"
-        int idx = mealTime.indexOf('(');
-        return idx != -1 ? mealTime.substring(0, idx).trim() : mealTime.trim();
-    }
-
-    private String extractTimeRange(String mealTime) {
-        int start = mealTime.indexOf("(");
-        int end = mealTime.indexOf(")");
-        return (start != -1 && end != -1) ? mealTime.substring(start + 1, end).trim() : "";
+    private String formatSchedule(AcademicScheduleIndex.ScheduleEvent event) {
+        return String.format("[%s ~ %s] %s", event.start(), event.end(), event.content());
     }
 
     private String normalizeKorean(String s) {
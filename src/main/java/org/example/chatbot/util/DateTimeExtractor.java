@@ -3,6 +3,7 @@ package org.example.chatbot.util;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -13,6 +14,18 @@ import java.util.regex.Pattern;
 @Slf4j
 public class DateTimeExtractor {
 
+    /**
+     * extractDateRange가 해석할 수 있는 날짜 표현 패턴입니다.
+     */
+    public static final Pattern DATE_EXPRESSION_PATTERN = Pattern.compile(
+            "오늘|내일|모레|어제|이번\\s*주|이번\\s*달" +
+                    "|\\d{1,2}\\s*월(\\s*\\d{1,2}\\s*일)?" +
+                    "|\\d{4}[-.]\\d{1,2}[-.]\\d{1,2}|\\d{1,2}[-.]\\d{1,2}"
+    );
+
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final Pattern DATE_QUERY_PATTERN = Pattern.compile("(\\d{4})(?:[-.](\\d{1,2})(?:[-.](\\d{1,2}))?)?");
+
     /**
      * 사용자 입력에서 날짜 범위를 추출합니다. (기본: 오늘~오늘)
      */
@@ -106,6 +119,43 @@ public class DateTimeExtractor {
         return null;
     }
 
+    /**
+     * 학사일정 저장 시 기간을 추출합니다. content에는 연도가 없으므로
+     * date 컬럼에 4자리 연도가 있으면 그 연도를, 없으면 올해를 기준으로 합니다.
+     */
+    public static LocalDate[] extractScheduleDateRange(String content, String dateText) {
+        if (content == null || content.isBlank()) return null;
+        Matcher matcher = YEAR_PATTERN.matcher(dateText != null ? dateText : "");
+        int year = matcher.find() ? Integer.parseInt(matcher.group()) : LocalDate.now().getYear();
+        return extractScheduleDateRange(content, year);
+    }
+
+    /**
+     * 검색 API의 date 파라미터를 날짜 범위로 변환합니다.
+     * yyyy → 그 해 전체, yyyy-MM → 그 달 전체, yyyy-MM-dd → 그 날 (구분자는 - 또는 .)
+     *
+     * @return [시작, 종료] (둘 다 포함), 해석할 수 없으면 null
+     */
+    public static LocalDate[] parseDateQuery(String date) {
+        Matcher matcher = DATE_QUERY_PATTERN.matcher(date.trim());
+        if (!matcher.matches()) return null;
+        try {
+            int year = Integer.parseInt(matcher.group(1));
+            if (matcher.group(2) == null) {
+                return new LocalDate[]{LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)};
+            }
+            int month = Integer.parseInt(matcher.group(2));
+            if (matcher.group(3) == null) {
+                LocalDate first = LocalDate.of(year, month, 1);
+                return new LocalDate[]{first, first.withDayOfMonth(first.lengthOfMonth())};
+            }
+            LocalDate day = LocalDate.of(year, month, Integer.parseInt(matcher.group(3)));
+            return new LocalDate[]{day, day};
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
     /**
      * 학사일정 content에서 MM.DD (요일) ~ MM.DD (요일) 형태의 기간을 추출합니다.
      */
@@ -0,0 +1,166 @@
+package org.example.chatbot.util;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기숙사 식단 원본(DormMeal.menu)을 GPT 없이 [아침]/[점심]/[저녁] 형식으로 정리하는 규칙 기반 파서입니다.
+ * 원본은 보통 "중식 12:00~13:00 메뉴..." 처럼 식사 구분이나 시간대 뒤에 메뉴가 나열되는 구조이므로,
+ * 이 기준점(anchor)으로 구역을 나누고 항목을 줄바꿈/구분자로 분리합니다.
+ * 구조가 예상과 다를수록 confidence가 낮아지며, 낮은 결과는 GPT 포맷팅으로 넘겨야 합니다.
+ */
+public class DormMenuParser {
+
+    // 다른 단어의 일부(예: 아침햇살)는 라벨로 보지 않음
+    private static final String LABELS = "(?<![가-힣])(?:조식|중식|석식|아침|점심|저녁)(?![가-힣])";
+
+    // [라벨] (HH:mm~HH:mm) 또는 라벨 단독
+    // 라벨이 없을 때 닫는 괄호를 허용하면 앞 메뉴의 ")"(예: 소고기무국(호주산) 17:00~18:10)를 삼키므로 괄호는 라벨과 함께만 매칭
+    private static final Pattern ANCHOR_PATTERN = Pattern.compile(
+            "(?:[\\[<(]?(" + LABELS + ")[\\]>)]?)?\\s*[\\[(]?(\\d{1,2}:\\d{2})\\s*[~\\-–]\\s*(\\d{1,2}:\\d{2})[\\])]?" +
+                    "|[\\[<(]?(" + LABELS + ")[\\]>)]?"
+    );
+
+    private static final Pattern BULLET_PATTERN = Pattern.compile("^[-•*▶ㆍ]+\\s*");
+
+    // 첫 구역 앞에 와도 되는 날짜/요일 표기
+    private static final Pattern HEADER_NOISE_PATTERN = Pattern.compile(
+            "\\d{4}[-./]\\d{1,2}[-./]\\d{1,2}|\\d{1,2}[-./]\\d{1,2}|\\d{1,2}월\\s*\\d{1,2}일" +
+                    "|\\(?[월화수목금토일](요일)?\\)?|[\\s\\p{Punct}]+"
+    );
+
+    private static final List<String> MEAL_ORDER = List.of("아침", "점심", "저녁");
+    private static final int LONG_ITEM_LENGTH = 40;
+
+    /**
+     * 파싱 결과입니다.
+     *
+     * @param formatted  [아침]/[점심]/[저녁] 형식 문자열 (파싱 불가 시 null)
+     * @param confidence 0.0 ~ 1.0
+     */
+    public record Result(String formatted, double confidence) {
+    }
+
+    public static Result parse(String rawMenu) {
+        if (rawMenu == null || rawMenu.isBlank()) return new Result(null, 0.0);
+
+        Matcher matcher = ANCHOR_PATTERN.matcher(rawMenu);
+        List<Section> sections = new ArrayList<>();
+        int firstAnchorStart = -1;
+        Section current = null;
+
+        while (matcher.find()) {
+            if (firstAnchorStart == -1) firstAnchorStart = matcher.start();
+            if (current != null) {
+                current.body = rawMenu.substring(current.bodyStart, matcher.start());
+            }
+
+            String label = matcher.group(1) != null ? matcher.group(1) : matcher.group(4);
+            String start = matcher.group(2);
+            String end = matcher.group(3);
+            current = new Section(normalizeLabel(label, start), start, end, matcher.end());
+            sections.add(current);
+        }
+        if (current == null) return new Result(null, 0.0);
+        current.body = rawMenu.substring(current.bodyStart);
+
+        double confidence = 1.0;
+
+        String header = rawMenu.substring(0, firstAnchorStart);
+        if (!HEADER_NOISE_PATTERN.matcher(header).replaceAll("").isEmpty()) confidence -= 0.4;
+
+        Map<String, Section> byMeal = new LinkedHashMap<>();
+        for (Section section : sections) {
+            if (section.meal == null) {
+                confidence -= 0.5;
+                continue;
+            }
+            section.items = splitItems(section.body);
+            if (section.items.isEmpty()) {
+                confidence -= 0.3;
+                continue;
+            }
+            if (section.start == null) confidence -= 0.1;
+            if (section.items.stream().anyMatch(item -> item.length() > LONG_ITEM_LENGTH)) confidence -= 0.2;
+            if (byMeal.putIfAbsent(section.meal, section) != null) confidence -= 0.3;
+        }
+        if (byMeal.isEmpty()) return new Result(null, 0.0);
+
+        StringBuilder formatted = new StringBuilder();
+        for (String meal : MEAL_ORDER) {
+            Section section = byMeal.get(meal);
+            if (section == null) continue;
+
+            if (!formatted.isEmpty()) formatted.append("\n\n");
+            formatted.append("[").append(meal).append("]");
+            if (section.start != null) {
+                formatted.append(" ").append(section.start).append("~").append(section.end);
+            }
+            for (String item : section.items) {
+                formatted.append("\n- ").append(item);
+            }
+        }
+
+        return new Result(formatted.toString(), Math.max(0.0, Math.min(1.0, confidence)));
+    }
+
+    // 줄바꿈, 쉼표, 슬래시 등으로 항목을 나누되 괄호 안(원산지 표기 등)의 구분자는 무시
+    private static List<String> splitItems(String body) {
+        List<String> items = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        int depth = 0;
+        for (char c : body.toCharArray()) {
+            if (c == '(' || c == '[') depth++;
+            if ((c == ')' || c == ']') && depth > 0) depth--;
+
+            boolean separator = c == '\n' || (depth == 0 && (c == ',' || c == '/' || c == '·' || c == '|'));
+            if (separator) {
+                addItem(items, token);
+            } else {
+                token.append(c);
+            }
+        }
+        addItem(items, token);
+        return items;
+    }
+
+    private static void addItem(List<String> items, StringBuilder token) {
+        String item = BULLET_PATTERN.matcher(token.toString().trim()).replaceFirst("").trim();
+        if (!item.isEmpty()) items.add(item);
+        token.setLength(0);
+    }
+
+    // 라벨이 없으면 시작 시각으로 식사 구분을 추정
+    private static String normalizeLabel(String label, String startTime) {
+        if (label != null) {
+            return switch (label) {
+                case "조식", "아침" -> "아침";
+                case "중식", "점심" -> "점심";
+                default -> "저녁";
+            };
+        }
+        if (startTime == null) return null;
+
+        int hour = Integer.parseInt(startTime.substring(0, startTime.indexOf(':')));
+        if (hour < 10) return "아침";
+        if (hour < 16) return "점심";
+        return "저녁";
+    }
+
+    private static class Section {
+        private final String meal;
+        private final String start;
+        private final String end;
+        private final int bodyStart;
+        private String body = "";
+        private List<String> items = List.of();
+
+        private Section(String meal, String start, String end, int bodyStart) {
+            this.meal = meal;
+            this.start = start;
+            this.end = end;
+            this.bodyStart = bodyStart;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS formatted_menu_memo
+(
+    hash           VARCHAR(64) NOT NULL PRIMARY KEY,
+    formatted_menu TEXT        NOT NULL,
+    created_at     DATETIME(6) NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,35 @@
+-- 식단 기간 조회(meal_date BETWEEN ? AND ?)용 (meal_date, meal_time) 복합 인덱스
+-- 식단 테이블은 크롤러가 만들기 때문에, 테이블이 있고 인덱스가 아직 없을 때만 생성합니다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'student_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'student_meals'
+                         AND index_name = 'idx_student_meals_date_time') = 0,
+              'CREATE INDEX idx_student_meals_date_time ON student_meals (meal_date, meal_time)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'dorm_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'dorm_meals'
+                         AND index_name = 'idx_dorm_meals_date_time') = 0,
+              'CREATE INDEX idx_dorm_meals_date_time ON dorm_meals (meal_date, meal_time)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'faculty_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'faculty_meals'
+                         AND index_name = 'idx_faculty_meals_date_time') = 0,
+              'CREATE INDEX idx_faculty_meals_date_time ON faculty_meals (meal_date, meal_time)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,81 @@
+-- chatbot.search.mode=fulltext 에서 쓰는 FULLTEXT(ngram parser) 인덱스
+-- 한국어는 띄어쓰기 단위 토큰으로는 부분 검색이 안 되므로 ngram parser(ngram_token_size 기본값 2)를 사용합니다.
+-- 테이블은 크롤러가 만들기 때문에, 테이블이 있고 인덱스가 아직 없을 때만 생성합니다.
+-- 테이블에 처음 FULLTEXT 인덱스를 만들 때는 테이블이 재구성되므로 행이 많으면 시간이 걸릴 수 있습니다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'academic_notices') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'academic_notices'
+                         AND index_name = 'ft_academic_notices_title') = 0,
+              'ALTER TABLE academic_notices ADD FULLTEXT INDEX ft_academic_notices_title (title) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'scholarship_notices') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'scholarship_notices'
+                         AND index_name = 'ft_scholarship_notices_title') = 0,
+              'ALTER TABLE scholarship_notices ADD FULLTEXT INDEX ft_scholarship_notices_title (title) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'hankyong_notices') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'hankyong_notices'
+                         AND index_name = 'ft_hankyong_notices_title') = 0,
+              'ALTER TABLE hankyong_notices ADD FULLTEXT INDEX ft_hankyong_notices_title (title) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'student_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'student_meals'
+                         AND index_name = 'ft_student_meals_menu') = 0,
+              'ALTER TABLE student_meals ADD FULLTEXT INDEX ft_student_meals_menu (menu) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'faculty_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'faculty_meals'
+                         AND index_name = 'ft_faculty_meals_menu') = 0,
+              'ALTER TABLE faculty_meals ADD FULLTEXT INDEX ft_faculty_meals_menu (menu) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'dorm_meals') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'dorm_meals'
+                         AND index_name = 'ft_dorm_meals_menu') = 0,
+              'ALTER TABLE dorm_meals ADD FULLTEXT INDEX ft_dorm_meals_menu (menu, formatted_menu) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = 'academic_schedule') > 0
+                  AND (SELECT COUNT(*) FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'academic_schedule'
+                         AND index_name = 'ft_academic_schedule_content') = 0,
+              'ALTER TABLE academic_schedule ADD FULLTEXT INDEX ft_academic_schedule_content (content) WITH PARSER ngram',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
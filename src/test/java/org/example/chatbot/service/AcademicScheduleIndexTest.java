@@ -0,0 +1,134 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.chatbot.domain.AcademicSchedule;
+import org.example.chatbot.repository.AcademicScheduleRepository;
+import org.example.chatbot.service.AcademicScheduleIndex.ScheduleEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AcademicScheduleIndexTest {
+
+    // id | 시작일 | 종료일 | 내용 (기간이 비어 있는 행은 인덱스에서 빠짐)
+    private static final String TABLE = """
+            1 | 2025-03-01 | 2025-03-01 | 개강
+            2 | 2025-02-24 | 2025-02-28 | 수강신청 기간
+            3 | 2025-03-01 | 2025-06-30 | 1학기 수업 기간
+            4 | 2025-03-10 | 2025-03-14 | 수강신청 변경 기간
+            5 | 2025-04-21 | 2025-04-25 | 중간고사
+            6 | 2025-06-16 | 2025-06-20 | 기말고사
+            7 | 2025-06-23 | 2025-08-31 | 하계방학
+            8 | 2025-03-04 | 2025-03-04 | 수강신청 정정
+            9 |            |            | 기간 미정 일정
+            """;
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 2, 15);
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 9, 15);
+
+    private AcademicScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<AcademicSchedule> rows = TABLE.lines().map(line -> line.split("\\|")).map(columns -> {
+            AcademicSchedule schedule = new AcademicSchedule();
+            schedule.setId(Long.parseLong(columns[0].trim()));
+            schedule.setStartDate(columns[1].isBlank() ? null : LocalDate.parse(columns[1].trim()));
+            schedule.setEndDate(columns[2].isBlank() ? null : LocalDate.parse(columns[2].trim()));
+            schedule.setContent(columns[3].trim());
+            return schedule;
+        }).toList();
+
+        AcademicScheduleRepository repository = mock(AcademicScheduleRepository.class);
+        when(repository.fingerprint()).thenReturn("9:9:8:0");
+        when(repository.findAll()).thenReturn(rows);
+
+        index = new AcademicScheduleIndex(repository, new RenderedAnswerCache(new SimpleMeterRegistry(), 100, 1),
+                new SimpleMeterRegistry());
+        index.refreshIfChanged();
+    }
+
+    @Test
+    @DisplayName("기간 경계에 걸친 일정, 오래 이어지는 일정, 그 안에 포함된 일정을 시작일 순으로 찾는다")
+    void overlappingFindsEdgeNestedAndLongRunningEvents() {
+        assertThat(index.overlapping(day("02-28"), day("02-28"))).extracting(ScheduleEvent::id).containsExactly(2L);
+        assertThat(index.overlapping(day("03-01"), day("03-01"))).extracting(ScheduleEvent::id).containsExactly(1L, 3L);
+        assertThat(index.overlapping(day("03-03"), day("03-11"))).extracting(ScheduleEvent::id)
+                .containsExactly(3L, 8L, 4L);
+        assertThat(index.overlapping(day("06-30"), day("06-30"))).extracting(ScheduleEvent::id).containsExactly(3L, 7L);
+        assertThat(index.overlapping(day("09-01"), day("12-31"))).isEmpty();
+        assertThat(index.overlapping(null, null)).extracting(ScheduleEvent::id)
+                .containsExactly(2L, 1L, 3L, 8L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    @DisplayName("구간 트리 조회 결과가 전체 일정을 훑은 결과와 같다")
+    void overlappingMatchesLinearScan() {
+        List<ScheduleEvent> all = index.all();
+        for (LocalDate from = FIRST_DAY; from.isBefore(LAST_DAY); from = from.plusDays(1)) {
+            for (int length = 0; length <= 20; length += 4) {
+                LocalDate start = from;
+                LocalDate end = from.plusDays(length);
+                List<ScheduleEvent> expected = all.stream()
+                        .filter(event -> !event.start().isAfter(end) && !event.end().isBefore(start))
+                        .toList();
+                assertThat(index.overlapping(start, end)).as("%s ~ %s", start, end).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("범위 밖 다음 일정은 범위 뒤에 가장 먼저 시작하는 일정, 없으면 범위 전에 가장 늦게 끝난 일정이다")
+    void nextOutsidePrefersNextStartThenLatestEnd() {
+        assertThat(nextOutside("수강신청", "03-05", "03-09")).contains(4L);
+        // 경계에 걸친 2번, 8번은 범위 안으로 봄
+        assertThat(nextOutside("수강신청", "02-28", "03-04")).contains(4L);
+        assertThat(nextOutside("수강신청", "03-01", "03-31")).contains(2L);
+        // 범위 전에 시작했지만 범위 안까지 이어지는 3번은 제외하고, 더 늦게 끝난 4번을 고름
+        assertThat(nextOutside("기간", "03-20", "03-31")).contains(4L);
+        assertThat(nextOutside("고사", "01-01", "03-31")).contains(5L);
+        assertThat(nextOutside("방학", "06-01", "12-31")).isEmpty();
+        assertThat(nextOutside("휴강", "01-01", "12-31")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("범위 밖 다음 일정 조회 결과가 키워드 일정을 훑어 고른 결과와 같다")
+    void nextOutsideMatchesLinearScan() {
+        for (String keyword : List.of("수강신청", "기간", "고사", "개강", "방학")) {
+            List<ScheduleEvent> postings = index.containing(keyword);
+            for (LocalDate from = FIRST_DAY; from.isBefore(LAST_DAY); from = from.plusDays(3)) {
+                for (int length = 0; length <= 30; length += 10) {
+                    LocalDate start = from;
+                    LocalDate end = from.plusDays(length);
+                    Optional<ScheduleEvent> expected = postings.stream()
+                            .filter(event -> event.start().isAfter(end))
+                            .findFirst()
+                            .or(() -> postings.stream()
+                                    .filter(event -> event.end().isBefore(start))
+                                    .max(Comparator.comparing(ScheduleEvent::end)
+                                            .thenComparing(ScheduleEvent::start)
+                                            .thenComparingLong(ScheduleEvent::id)));
+                    assertThat(index.nextOutside(keyword, start, end)).as("%s %s ~ %s", keyword, start, end)
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    private Optional<Long> nextOutside(String keyword, String start, String end) {
+        return index.nextOutside(keyword, day(start), day(end)).map(ScheduleEvent::id);
+    }
+
+    private static LocalDate day(String monthDay) {
+        return LocalDate.parse("2025-" + monthDay);
+    }
+}
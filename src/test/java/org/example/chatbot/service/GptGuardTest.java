@@ -0,0 +1,49 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GptGuardTest {
+
+    private GptGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        // 한 번 실패하면 바로 open, open 유지 시간 0 → 다음 호출이 곧바로 half-open 탐침
+        guard = new GptGuard(new SimpleMeterRegistry(), 1, 0, 2, 1, 50, 0, 1);
+        assertThatThrownBy(() -> guard.execute(() -> {
+            throw new IllegalStateException("timeout");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(guard.getState()).isEqualTo(GptGuard.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("탐침 호출이 Error를 던져도 탐침 자리를 반환해 다음 탐침으로 복구한다")
+    void probeThrowingErrorReleasesSlot() {
+        assertThatThrownBy(() -> guard.execute(() -> {
+            throw new Error("boom");
+        })).isInstanceOf(Error.class);
+        assertThat(guard.getState()).isEqualTo(GptGuard.State.HALF_OPEN);
+
+        assertThat(guard.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(guard.getState()).isEqualTo(GptGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("reactive 탐침 호출 생성이 Error를 던져도 탐침 자리와 벌크헤드 허용량을 반환한다")
+    void reactiveProbeThrowingErrorReleasesSlot() {
+        assertThatThrownBy(() -> guard.<String>executeReactive(() -> {
+            throw new Error("boom");
+        }).block()).hasMessageContaining("boom");
+        assertThat(guard.getState()).isEqualTo(GptGuard.State.HALF_OPEN);
+
+        assertThat(guard.executeReactive(() -> Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(guard.getState()).isEqualTo(GptGuard.State.CLOSED);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.chatbot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MealSnapshotStoreTest {
+
+    @Test
+    @DisplayName("한글 메뉴 문자열은 문자당 2바이트로 추정한다")
+    void koreanMenuIsTwoBytesPerChar() {
+        // 10자 → 내용 20바이트: 24 + align(16 + 20)
+        assertThat(MealSnapshotStore.estimatedStringBytes("소고기무국(호주산)")).isEqualTo(64);
+        // Latin-1 밖의 문자가 하나라도 있으면 영문도 2바이트: 11자 → 24 + align(16 + 22)
+        assertThat(MealSnapshotStore.estimatedStringBytes("김치 (Kimchi)")).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Latin-1 문자열은 문자당 1바이트로 추정한다")
+    void latin1StringIsOneBytePerChar() {
+        // 25자 → 24 + align(16 + 25), UTF-16으로 셌다면 96
+        assertThat(MealSnapshotStore.estimatedStringBytes("Bulgogi (beef: Australia)")).isEqualTo(72);
+        assertThat(MealSnapshotStore.estimatedStringBytes("12:00~13:30")).isEqualTo(56);
+        assertThat(MealSnapshotStore.estimatedStringBytes("")).isEqualTo(40);
+        assertThat(MealSnapshotStore.estimatedStringBytes(null)).isZero();
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.chatbot.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.chatbot.config.SearchMode;
+import org.example.chatbot.domain.AcademicNotice;
+import org.example.chatbot.repository.AcademicNoticeRepository;
+import org.example.chatbot.repository.HankyongNoticeRepository;
+import org.example.chatbot.repository.ScholarshipNoticeRepository;
+import org.example.chatbot.service.NoticeTitleIndex.Notice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class NoticeTitleIndexTest {
+
+    private static final LocalDate YEAR_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2025, 12, 31);
+
+    private final List<AcademicNotice> loaded = new ArrayList<>();
+    private AcademicNoticeRepository academicNoticeRepository;
+    private NoticeTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        academicNoticeRepository = mock(AcademicNoticeRepository.class);
+        ScholarshipNoticeRepository scholarshipNoticeRepository = mock(ScholarshipNoticeRepository.class);
+        HankyongNoticeRepository hankyongNoticeRepository = mock(HankyongNoticeRepository.class);
+        when(scholarshipNoticeRepository.fingerprint()).thenReturn("0:0:0");
+        when(hankyongNoticeRepository.fingerprint()).thenReturn("0:0:0");
+
+        index = new NoticeTitleIndex(academicNoticeRepository, scholarshipNoticeRepository, hankyongNoticeRepository,
+                new RenderedAnswerCache(new SimpleMeterRegistry(), 100, 1), new SimpleMeterRegistry(), SearchMode.LIKE);
+    }
+
+    @Test
+    @DisplayName("키워드의 bigram 포스팅을 교집합하고, bigram이 이어지지 않는 제목은 제외한다")
+    void searchIntersectsPostingsAndDropsNonContiguousTitles() {
+        load(notice(1, "2025-03-02", "2025학년도 1학기 등록금 납부 안내"),
+                notice(2, "2025-03-03", "등록 기간 및 금요일 휴무 안내"),
+                notice(3, "2025-03-04", "장학 설명회 및 학금 수령 안내"),
+                notice(4, "2025-03-05", "등록금 반환 기준 안내"),
+                notice(5, "2025-03-06", "국가장학금 2차 신청 안내"));
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금")).extracting(Notice::id).containsExactly(1L, 4L);
+        // 장학, 학금 bigram은 모두 있지만 이어지지 않는 3번은 제외
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "장학금")).extracting(Notice::id).containsExactly(5L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "휴학원")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("교집합은 색인이 공유하는 포스팅 배열을 바꾸지 않는다")
+    void intersectionDoesNotMutateSharedPostings() {
+        load(notice(1, "2025-03-02", "등록금 납부 안내"),
+                notice(2, "2025-03-03", "등록 기간 안내"),
+                notice(3, "2025-03-04", "등록금 반환 안내"));
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금 반환")).extracting(Notice::id).containsExactly(3L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록")).extracting(Notice::id).containsExactly(1L, 2L, 3L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금")).extracting(Notice::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("두 글자 키워드는 포스팅만으로 답하고, 한 글자 키워드는 전체 제목을 확인한다")
+    void twoCharacterKeywordsUsePostingsDirectly() {
+        load(notice(1, "2025-03-02", "휴학 신청 안내"),
+                notice(2, "2025-03-03", "복학 신청 안내"),
+                notice(3, "2025-03-04", "졸업 사정 결과"));
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "신청")).extracting(Notice::id).containsExactly(1L, 2L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "학")).extracting(Notice::id).containsExactly(1L, 2L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "결석")).isEmpty();
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, null)).extracting(Notice::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("증분 반영 후에도 포스팅이 문서 순서대로 정렬되어 있다")
+    void appendKeepsPostingsSorted() {
+        load(notice(1, "2025-03-02", "등록금 납부 안내"),
+                notice(2, "2025-03-03", "수강신청 안내"),
+                notice(3, "2025-03-04", "등록금 분할 납부 안내"));
+        append(notice(4, "2025-03-05", "등록금 반환 안내"),
+                notice(5, "2025-03-06", "추가 등록금 납부 안내"));
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금")).extracting(Notice::id).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "금 납부")).extracting(Notice::id).containsExactly(1L, 5L);
+        verify(academicNoticeRepository, times(1)).findAll();
+        verify(academicNoticeRepository).findByIdGreaterThanOrderByIdAsc(3L);
+    }
+
+    @Test
+    @DisplayName("최신순 배열은 (게시일, id) 내림차순으로 병합되고 게시일 없는 공지는 제외한다")
+    void mergeNewestOrdersByDateThenId() {
+        load(notice(1, "2025-03-02", "공지 1"),
+                notice(2, "2025-03-05", "공지 2"),
+                notice(3, "2025-03-02", "공지 3"));
+        append(notice(4, "2025-03-01", "공지 4"),
+                notice(5, "2025-03-05", "공지 5"),
+                notice(6, null, "공지 6"));
+
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, YEAR_END, null, 10))
+                .extracting(Notice::id).containsExactly(5L, 2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("기간과 keyset 위치를 이진 탐색해 그 다음 공지부터 읽는다")
+    void recentSeeksKeysetPosition() {
+        load(notice(1, "2025-03-02", "공지 1"),
+                notice(2, "2025-03-05", "공지 2"),
+                notice(3, "2025-03-02", "공지 3"),
+                notice(4, "2025-03-01", "공지 4"),
+                notice(5, "2025-03-05", "공지 5"));
+
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, YEAR_END, null, 2))
+                .extracting(Notice::id).containsExactly(5L, 2L);
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, YEAR_END, cursor("2025-03-05", 2), 10))
+                .extracting(Notice::id).containsExactly(3L, 1L, 4L);
+        // 같은 게시일 안에서는 id가 더 작은 공지부터
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, YEAR_END, cursor("2025-03-02", 3), 10))
+                .extracting(Notice::id).containsExactly(1L, 4L);
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, LocalDate.of(2025, 3, 4), null, 10))
+                .extracting(Notice::id).containsExactly(3L, 1L, 4L);
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 4), null, 10))
+                .extracting(Notice::id).containsExactly(3L, 1L);
+        assertThat(index.recent(NoticeTitleIndex.ACADEMIC, YEAR_START, YEAR_END, cursor("2025-03-01", 4), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 지문이 MySQL CRC32(hash) 합 지문과 같으면 다시 읽지 않는다")
+    void localFingerprintMatchesMysqlCrc32() {
+        // MySQL: SELECT CRC32('MySQL') → 3259397556, SELECT CRC32('mysql') → 2501908538
+        AcademicNotice first = notice(1, "2025-03-02", "공지 1");
+        first.setHash("MySQL");
+        AcademicNotice second = notice(2, "2025-03-03", "공지 2");
+        second.setHash("mysql");
+        AcademicNotice withoutHash = notice(3, "2025-03-04", "공지 3");
+        when(academicNoticeRepository.findAll()).thenReturn(List.of(first, second, withoutHash));
+        when(academicNoticeRepository.fingerprint()).thenReturn("3:3:5761306094");
+
+        index.refresh();
+        index.refresh();
+
+        verify(academicNoticeRepository, times(1)).findAll();
+        verify(academicNoticeRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong());
+    }
+
+    @Test
+    @DisplayName("증분 반영 후에도 지문이 다르면(수정/삭제) 전체를 다시 만든다")
+    void rebuildsWhenFingerprintDiffersAfterAppend() {
+        load(notice(1, "2025-03-02", "등록금 납부 안내"),
+                notice(2, "2025-03-03", "수강신청 안내"));
+        // 2번 제목이 수정되어 지문의 해시 합이 달라진 경우
+        AcademicNotice edited = notice(2, "2025-03-03", "등록금 수정 안내");
+        edited.setHash("mysql");
+        when(academicNoticeRepository.findAll()).thenReturn(List.of(notice(1, "2025-03-02", "등록금 납부 안내"), edited));
+        when(academicNoticeRepository.fingerprint()).thenReturn("2:2:2501908538");
+
+        index.refresh();
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금")).extracting(Notice::id).containsExactly(1L, 2L);
+        verify(academicNoticeRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("새 행을 붙여도 지문이 맞지 않으면(중간 행 삭제) 증분 결과를 버리고 전체를 다시 만든다")
+    void discardsAppendWhenRowsWereDeleted() {
+        load(notice(1, "2025-03-02", "등록금 납부 안내"),
+                notice(2, "2025-03-03", "등록금 분할 납부 안내"),
+                notice(3, "2025-03-04", "수강신청 안내"));
+        // 2번이 삭제되고 4번이 추가됨: 증분 반영 결과는 4건이지만 DB는 3건
+        AcademicNotice added = notice(4, "2025-03-05", "등록금 반환 안내");
+        when(academicNoticeRepository.findByIdGreaterThanOrderByIdAsc(3L)).thenReturn(List.of(added));
+        when(academicNoticeRepository.findAll()).thenReturn(
+                List.of(notice(1, "2025-03-02", "등록금 납부 안내"), notice(3, "2025-03-04", "수강신청 안내"), added));
+        when(academicNoticeRepository.fingerprint()).thenReturn("3:4:0");
+
+        index.refresh();
+
+        assertThat(index.search(NoticeTitleIndex.ACADEMIC, "등록금")).extracting(Notice::id).containsExactly(1L, 4L);
+        verify(academicNoticeRepository).findByIdGreaterThanOrderByIdAsc(3L);
+        verify(academicNoticeRepository, times(2)).findAll();
+    }
+
+    // 해시가 없는 공지만 적재하면 지문은 "행 수:최대 id:0"
+    private void load(AcademicNotice... notices) {
+        loaded.addAll(List.of(notices));
+        when(academicNoticeRepository.findAll()).thenReturn(List.copyOf(loaded));
+        when(academicNoticeRepository.fingerprint()).thenReturn(fingerprint());
+        index.refresh();
+    }
+
+    private void append(AcademicNotice... notices) {
+        long lastId = loaded.get(loaded.size() - 1).getId();
+        loaded.addAll(List.of(notices));
+        when(academicNoticeRepository.findByIdGreaterThanOrderByIdAsc(lastId)).thenReturn(List.of(notices));
+        when(academicNoticeRepository.fingerprint()).thenReturn(fingerprint());
+        index.refresh();
+    }
+
+    private String fingerprint() {
+        return loaded.size() + ":" + loaded.get(loaded.size() - 1).getId() + ":0";
+    }
+
+    private static AcademicNotice notice(long id, String noticeDate, String title) {
+        AcademicNotice notice = new AcademicNotice();
+        notice.setId(id);
+        notice.setNoticeDate(noticeDate != null ? LocalDate.parse(noticeDate) : null);
+        notice.setTitle(title);
+        return notice;
+    }
+
+    private static NoticeCursor cursor(String lastDate, long lastId) {
+        return new NoticeCursor(NoticeTitleIndex.ACADEMIC, null, YEAR_START, YEAR_END, false, false,
+                LocalDate.parse(lastDate), lastId);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.chatbot.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DormMenuParserTest {
+
+    @Test
+    @DisplayName("식사 구분과 시간대로 구역을 나누고 줄바꿈/구분자로 항목을 분리한다")
+    void parsesLabeledSections() {
+        DormMenuParser.Result result = DormMenuParser.parse(
+                "조식 07:30~09:00\n쌀밥\n된장국\n김치\n" +
+                        "중식 12:00~13:00\n카레라이스, 우동 / 단무지\n" +
+                        "석식 17:00~18:10\n잡곡밥\n소고기무국(호주산)\n깍두기");
+
+        assertThat(result.formatted()).isEqualTo(
+                "[아침] 07:30~09:00\n- 쌀밥\n- 된장국\n- 김치\n\n" +
+                        "[점심] 12:00~13:00\n- 카레라이스\n- 우동\n- 단무지\n\n" +
+                        "[저녁] 17:00~18:10\n- 잡곡밥\n- 소고기무국(호주산)\n- 깍두기");
+        assertThat(result.confidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("라벨 없는 시간대 앞의 메뉴 닫는 괄호를 삼키지 않는다")
+    void keepsClosingParenthesisBeforeUnlabeledTime() {
+        DormMenuParser.Result result = DormMenuParser.parse(
+                "[중식] 12:00~13:00\n잡곡밥\n소고기무국(호주산) 17:00~18:10\n깍두기");
+
+        assertThat(result.formatted()).isEqualTo(
+                "[점심] 12:00~13:00\n- 잡곡밥\n- 소고기무국(호주산)\n\n[저녁] 17:00~18:10\n- 깍두기");
+    }
+
+    @Test
+    @DisplayName("괄호 안(원산지 표기 등)의 구분자로는 항목을 나누지 않는다")
+    void ignoresSeparatorsInsideParentheses() {
+        DormMenuParser.Result result = DormMenuParser.parse(
+                "중식 12:00~13:00 제육볶음(돼지고기:국내산, 쌀:국내산)\n석식 17:00~18:10 비빔밥");
+
+        assertThat(result.formatted()).isEqualTo(
+                "[점심] 12:00~13:00\n- 제육볶음(돼지고기:국내산, 쌀:국내산)\n\n[저녁] 17:00~18:10\n- 비빔밥");
+    }
+
+    @Test
+    @DisplayName("라벨이 없으면 시작 시각으로 식사 구분을 추정한다")
+    void infersMealFromStartTime() {
+        DormMenuParser.Result result = DormMenuParser.parse("07:30~09:00 토스트\n우유\n17:30~19:00 김치찌개");
+
+        assertThat(result.formatted()).isEqualTo("[아침] 07:30~09:00\n- 토스트\n- 우유\n\n[저녁] 17:30~19:00\n- 김치찌개");
+        assertThat(result.confidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("날짜/요일 머리글은 허용하고, 시간대가 없는 구역은 신뢰도를 조금 낮춘다")
+    void headerNoiseAndMissingTimes() {
+        DormMenuParser.Result result = DormMenuParser.parse("2025-03-04(화)\n아침\n토스트\n점심\n라면");
+
+        assertThat(result.formatted()).isEqualTo("[아침]\n- 토스트\n\n[점심]\n- 라면");
+        assertThat(result.confidence()).isCloseTo(0.8, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("첫 구역 앞의 설명 문장, 빈 구역, 중복 구역, 긴 항목은 신뢰도를 낮춘다")
+    void lowersConfidenceForUnexpectedStructure() {
+        assertThat(DormMenuParser.parse("오늘은 특식이 나옵니다 중식 12:00~13:00 짜장면").confidence())
+                .isCloseTo(0.6, within(1e-9));
+        assertThat(DormMenuParser.parse("중식 12:00~13:00\n중식 12:00~13:00 짬뽕").confidence())
+                .isCloseTo(0.7, within(1e-9));
+
+        DormMenuParser.Result duplicated = DormMenuParser.parse("점심 12:00~13:00 밥\n점심 12:00~13:00 국");
+        assertThat(duplicated.formatted()).isEqualTo("[점심] 12:00~13:00\n- 밥");
+        assertThat(duplicated.confidence()).isCloseTo(0.7, within(1e-9));
+
+        assertThat(DormMenuParser.parse("중식 12:00~13:00 " + "아주 긴 메뉴 설명 ".repeat(6)).confidence())
+                .isCloseTo(0.8, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("식사 구분을 찾지 못하면 결과 없이 신뢰도 0을 반환한다")
+    void returnsNothingWithoutAnchors() {
+        assertThat(DormMenuParser.parse("아침햇살 주스 제공")).isEqualTo(new DormMenuParser.Result(null, 0.0));
+        assertThat(DormMenuParser.parse(" ")).isEqualTo(new DormMenuParser.Result(null, 0.0));
+        assertThat(DormMenuParser.parse(null)).isEqualTo(new DormMenuParser.Result(null, 0.0));
+    }
+}